@@ -0,0 +1,162 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * Load generator for a Duke server started with --server. Opens many connections at once, each sending
+ * a mix of commands that read and change the task list and waiting for every reply before sending
+ * the next command, then reports the throughput and the percentiles of the time taken by the replies.
+ * The arguments are the port, the number of connections, the number of commands sent by each connection
+ * and the percentage of commands that only read the task list, which default to 4242, 100, 1000 and 90.
+ */
+public class ServerLoadGenerator {
+
+    private static final int WARMUP_COMMANDS = 100;
+    private static final String END_OF_REPLY = ".";
+
+    private final int port;
+    private final int numConnections;
+    private final int numCommands;
+    private final int readPercent;
+
+    ServerLoadGenerator(int port, int numConnections, int numCommands, int readPercent) {
+        this.port = port;
+        this.numConnections = numConnections;
+        this.numCommands = numCommands;
+        this.readPercent = readPercent;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ServerLoadGenerator generator = new ServerLoadGenerator(
+                args.length > 0 ? Integer.parseInt(args[0]) : 4242,
+                args.length > 1 ? Integer.parseInt(args[1]) : 100,
+                args.length > 2 ? Integer.parseInt(args[2]) : 1000,
+                args.length > 3 ? Integer.parseInt(args[3]) : 90);
+        generator.run();
+    }
+
+    /**
+     * Runs every connection to the end and prints the report.
+     */
+    void run() throws InterruptedException {
+        long[][] latencies = new long[numConnections][];
+        List<Thread> threads = new ArrayList<>();
+        CountDownLatch warmedUp = new CountDownLatch(numConnections);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < numConnections; i++) {
+            int connection = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    latencies[connection] = runConnection(connection, warmedUp, start);
+                } catch (IOException | InterruptedException e) {
+                    System.err.println("Connection " + connection + " failed: " + e);
+                    warmedUp.countDown();
+                }
+            }, "load-" + i);
+            thread.start();
+            threads.add(thread);
+        }
+
+        warmedUp.await();
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - startTime;
+
+        long[] all = Arrays.stream(latencies)
+                .filter(connectionLatencies -> connectionLatencies != null)
+                .flatMapToLong(Arrays::stream)
+                .sorted()
+                .toArray();
+        if (all.length == 0) {
+            System.out.println("No commands were answered.");
+            return;
+        }
+        System.out.printf("%d connections, %d commands, %d%% reads%n", numConnections, all.length, readPercent);
+        System.out.printf("throughput: %.0f commands/s%n", all.length / (elapsed / 1e9));
+        for (double percentile : new double[] {50, 90, 99, 99.9}) {
+            System.out.printf("p%-5s %8.1f us%n", formatPercentile(percentile),
+                    all[indexOf(percentile, all.length)] / 1e3);
+        }
+        System.out.printf("max    %8.1f us%n", all[all.length - 1] / 1e3);
+    }
+
+    //helper method to send the commands of one connection, returning the time taken by each reply after warmup
+    private long[] runConnection(int connection, CountDownLatch warmedUp, CountDownLatch start)
+            throws IOException, InterruptedException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            for (int i = 0; i < WARMUP_COMMANDS; i++) {
+                send(writer, reader, nextCommand(connection, i));
+            }
+            warmedUp.countDown();
+            start.await();
+
+            long[] latencies = new long[numCommands];
+            for (int i = 0; i < numCommands; i++) {
+                String command = nextCommand(connection, i);
+                long sent = System.nanoTime();
+                send(writer, reader, command);
+                latencies[i] = System.nanoTime() - sent;
+            }
+            send(writer, reader, "bye");
+            return latencies;
+        }
+    }
+
+    //helper method to pick a command that reads the task list or one that adds to it
+    private String nextCommand(int connection, int i) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextInt(100) >= readPercent) {
+            return "todo load test " + connection + "-" + i;
+        }
+        switch (random.nextInt(3)) {
+            case 0:
+                return "find taxes";
+            case 1:
+                return "upcoming 5";
+            default:
+                return "list from " + (1 + random.nextInt(100)) + " size 10";
+        }
+    }
+
+    //helper method to send a command and read its reply up to the line ending it
+    private static void send(Writer writer, BufferedReader reader, String command) throws IOException {
+        writer.write(command);
+        writer.write('\n');
+        writer.flush();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.equals(END_OF_REPLY)) {
+                return;
+            }
+        }
+        throw new IOException("Connection closed before the reply ended");
+    }
+
+    private static int indexOf(double percentile, int size) {
+        return (int) Math.min(size - 1, Math.ceil(percentile / 100 * size) - 1);
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile);
+    }
+}
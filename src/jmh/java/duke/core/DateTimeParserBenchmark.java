@@ -0,0 +1,93 @@
+package duke.core;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.errors.DukeException;
+
+
+/**
+ * Benchmark comparing the date parsing and formatting of DateTimeParser with the previous
+ * implementation, which created a formatter for every date, over a bulk import of dated tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DateTimeParserBenchmark {
+
+    private static final int NUM_DATES = 1000;
+
+    private String[] dates;
+
+    /**
+     * Creates dates spread over a few months, so that some of them repeat as they do in a task list.
+     */
+    @Setup
+    public void createDates() {
+        Random random = new Random(42);
+        dates = new String[NUM_DATES];
+        for (int i = 0; i < NUM_DATES; i++) {
+            dates[i] = String.format("%02d/%02d/2019 %02d%02d", 1 + random.nextInt(31),
+                    10 + random.nextInt(3), random.nextInt(24), 15 * random.nextInt(4));
+        }
+    }
+
+    @Benchmark
+    public int parseAndFormatPrevious() {
+        int length = 0;
+        for (String date : dates) {
+            length += previousParseDateTime(date).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int parseAndFormat() throws DukeException {
+        int length = 0;
+        for (String date : dates) {
+            length += DateTimeParser.format(DateTimeParser.parse(date)).length();
+        }
+        return length;
+    }
+
+    //the implementation of Parser.parseDateTime before DateTimeParser, kept as the baseline
+    private static String previousParseDateTime(String dateTimeString) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm");
+        LocalDateTime dateAndTime = LocalDateTime.parse(dateTimeString, formatter);
+
+        int day = dateAndTime.getDayOfMonth();
+        int hour = dateAndTime.getHour();
+        int minute = dateAndTime.getMinute();
+
+        StringBuilder dateTime = new StringBuilder();
+        dateTime.append(day);
+        int remainderHundred = day % 100;
+        if (remainderHundred > 9 && remainderHundred < 21) {
+            dateTime.append("th");
+        } else {
+            dateTime.append(day % 10 == 1 ? "st" : day % 10 == 2 ? "nd" : day % 10 == 3 ? "rd" : "th");
+        }
+        dateTime.append(" of ");
+        dateTime.append(dateAndTime.getMonth().toString());
+        dateTime.append(" ");
+        dateTime.append(dateAndTime.getYear());
+        dateTime.append(", ");
+        dateTime.append((hour > 12 ? hour - 12 : hour == 0 ? 12 : hour));
+        if (minute != 0) {
+            dateTime.append(":");
+            dateTime.append(minute);
+        }
+        dateTime.append(hour < 12 ? "am" : "pm");
+        return dateTime.toString();
+    }
+}
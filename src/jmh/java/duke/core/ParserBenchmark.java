@@ -0,0 +1,46 @@
+package duke.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import duke.commands.Command;
+import duke.errors.DukeException;
+
+
+/**
+ * Benchmark of Parser.parseCommand on an input of every command type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+
+    @Param({
+        "todo read book",
+        "deadline return book /by 02/12/2019 1800",
+        "deadline return book /by Sunday",
+        "event project meeting /at 12/12/2019 1200",
+        "list",
+        "done 3",
+        "delete 3",
+        "find book",
+        "find read book",
+        "upcoming 5",
+        "due between 01/12/2019 0000 and 31/12/2019 2359",
+        "help",
+        "bye"
+    })
+    private String input;
+
+    @Benchmark
+    public Command parseCommand() throws DukeException {
+        return Parser.parseCommand(input);
+    }
+}
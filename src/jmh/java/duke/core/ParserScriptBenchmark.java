@@ -0,0 +1,61 @@
+package duke.core;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import duke.errors.DukeException;
+
+
+/**
+ * Benchmark of Parser.parseCommand on every line of a synthetic import script, reported per line,
+ * to measure the number of lines a script import can parse each second.
+ * The mixed script has a quarter of its lines replaced by mistakes, which should be rejected about
+ * as fast as good lines are accepted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParserScriptBenchmark {
+
+    private static final int NUM_LINES = 100000;
+    private static final int INVALID_PERCENT = 25;
+
+    private List<String> script;
+    private List<String> mixedScript;
+
+    @Setup
+    public void createScript() {
+        script = SyntheticDataset.createScript(NUM_LINES);
+        mixedScript = SyntheticDataset.createMixedScript(NUM_LINES, INVALID_PERCENT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_LINES)
+    public void parseScript(Blackhole blackhole) throws DukeException {
+        for (String line : script) {
+            blackhole.consume(Parser.parseCommand(line));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_LINES)
+    public void parseMixedScript(Blackhole blackhole) {
+        for (String line : mixedScript) {
+            try {
+                blackhole.consume(Parser.parseCommand(line));
+            } catch (IllegalArgumentException | DukeException error) {
+                blackhole.consume(error.getMessage());
+            }
+        }
+    }
+}
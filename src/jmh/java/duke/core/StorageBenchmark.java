@@ -0,0 +1,55 @@
+package duke.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.errors.DukeException;
+import duke.tasks.Task;
+
+
+/**
+ * Benchmark of loading and rewriting the data file in both formats, on task lists of increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int numTasks;
+
+    @Param({"TEXT", "BINARY"})
+    private StorageFormat format;
+
+    private Storage storage;
+    private ArrayList<Task> tasks;
+
+    /**
+     * Writes a data file holding the synthetic tasks.
+     */
+    @Setup
+    public void writeDataFile() throws IOException {
+        storage = SyntheticDataset.createStorage(numTasks, format);
+        tasks = SyntheticDataset.createTasks(numTasks);
+    }
+
+    @Benchmark
+    public ArrayList<Task> load() throws DukeException {
+        return storage.load();
+    }
+
+    @Benchmark
+    public void overwriteStorage() throws IOException {
+        storage.overwriteStorage(tasks);
+    }
+}
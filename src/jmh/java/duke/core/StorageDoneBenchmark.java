@@ -0,0 +1,79 @@
+package duke.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import duke.tasks.Task;
+
+
+/**
+ * Benchmark of saving a task being marked as done, on task lists of increasing size, to show that
+ * in-place mode costs the same whatever the size of the file. Every iteration starts from a file
+ * without any task done, and short iterations keep in-place mode from running out of tasks to mark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StorageDoneBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int numTasks;
+
+    @Param({"REWRITE", "IN_PLACE"})
+    private StorageMode mode;
+
+    @Param({"TEXT", "BINARY"})
+    private StorageFormat format;
+
+    private Storage storage;
+    private ArrayList<Task> tasks;
+    private int next;
+
+    /**
+     * Creates a storage in the mode being measured, writing the synthetic tasks to its file.
+     */
+    @Setup
+    public void createStorage() throws IOException {
+        File directory = Files.createTempDirectory("duke-bench").toFile();
+        directory.deleteOnExit();
+        storage = Storage.createStorageIfRequired(directory, mode, format);
+    }
+
+    /**
+     * Writes the synthetic tasks to the file again, none of them done.
+     */
+    @Setup(Level.Iteration)
+    public void writeDataFile() throws IOException {
+        tasks = SyntheticDataset.createTasks(numTasks);
+        for (Task task : tasks) {
+            task.setNotDone();
+        }
+        storage.overwriteStorage(tasks);
+        next = 0;
+    }
+
+    @Benchmark
+    public void recordDone() throws IOException {
+        Task task = tasks.get(next);
+        next = (next + 1) % numTasks;
+        task.setDone();
+        storage.recordDone(tasks, task);
+    }
+}
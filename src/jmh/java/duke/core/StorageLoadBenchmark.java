@@ -0,0 +1,84 @@
+package duke.core;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.errors.DukeException;
+import duke.tasks.Task;
+
+
+/**
+ * Benchmark comparing the line by line Scanner loader with the parallel loader
+ * and with the binary format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageLoadBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int numTasks;
+
+    private Storage storage;
+    private File file;
+    private File binaryFile;
+
+    /**
+     * Writes a data file holding the given number of tasks of every type.
+     */
+    @Setup
+    public void writeDataFile() throws IOException, DukeException {
+        File directory = Files.createTempDirectory("duke-load").toFile();
+        directory.deleteOnExit();
+        storage = Storage.createStorageIfRequired(directory, StorageMode.REWRITE);
+        file = new File(directory, "data.txt");
+        file.deleteOnExit();
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            for (int i = 1; i <= numTasks; i++) {
+                switch (i % 3) {
+                    case 0:
+                        writer.write(i + " / ToDo / 0 / read book " + i);
+                        break;
+                    case 1:
+                        writer.write(i + " / Deadline / 1 / homework " + i + " / 12th of DECEMBER 1212, 12:12pm");
+                        break;
+                    default:
+                        writer.write(i + " / Event / 0 / jogging with friends " + i + " / Wednesday");
+                }
+                writer.newLine();
+            }
+        }
+        binaryFile = new File(directory, "data.bin");
+        binaryFile.deleteOnExit();
+        Storage.convert(file, binaryFile, StorageFormat.BINARY);
+    }
+
+    @Benchmark
+    public ArrayList<Task> loadWithScanner() throws IOException, DukeException {
+        return storage.readTasksWithScanner();
+    }
+
+    @Benchmark
+    public ArrayList<Task> loadWithParallelLoader() throws IOException, DukeException {
+        return ParallelLoader.readTasks(file);
+    }
+
+    @Benchmark
+    public ArrayList<Task> loadBinary() throws IOException, DukeException {
+        return BinaryTaskFormat.readTasks(binaryFile);
+    }
+}
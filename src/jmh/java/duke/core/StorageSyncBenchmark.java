@@ -0,0 +1,61 @@
+package duke.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.tasks.Task;
+
+
+/**
+ * Benchmark of saving a task being marked as done under each sync policy, in the modes that save
+ * every change straight away, to show how much each policy costs per change.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StorageSyncBenchmark {
+
+    private static final int NUM_TASKS = 10000;
+
+    @Param({"REWRITE", "JOURNAL"})
+    private StorageMode mode;
+
+    @Param({"ALWAYS", "INTERVAL", "NEVER"})
+    private SyncPolicy syncPolicy;
+
+    private Storage storage;
+    private ArrayList<Task> tasks;
+    private int next;
+
+    /**
+     * Creates a storage holding the synthetic tasks, with the sync policy being measured.
+     */
+    @Setup
+    public void createStorage() throws IOException {
+        System.setProperty("duke.storage.sync", syncPolicy.name());
+        File directory = Files.createTempDirectory("duke-bench").toFile();
+        directory.deleteOnExit();
+        storage = Storage.createStorageIfRequired(directory, mode);
+        tasks = SyntheticDataset.createTasks(NUM_TASKS);
+        storage.overwriteStorage(tasks);
+    }
+
+    @Benchmark
+    public void recordDone() throws IOException {
+        Task task = tasks.get(next);
+        next = (next + 1) % NUM_TASKS;
+        storage.recordDone(tasks, task);
+    }
+}
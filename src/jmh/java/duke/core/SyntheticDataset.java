@@ -0,0 +1,176 @@
+package duke.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import duke.tasks.Deadline;
+import duke.tasks.Event;
+import duke.tasks.Task;
+import duke.tasks.ToDo;
+
+
+/**
+ * Generates the task lists used by the benchmarks. The same seed always gives the same tasks,
+ * so that results can be compared between runs.
+ * Descriptions are drawn from a small vocabulary in which the first words are far more common than
+ * the last, so that keyword searches hit both frequent and rare words.
+ */
+class SyntheticDataset {
+
+    static final long SEED = 20191112L;
+
+    private static final String[] WORDS = {
+        "read", "book", "homework", "buy", "milk", "return", "library", "meeting", "project", "report",
+        "call", "mum", "gym", "jogging", "friends", "lecture", "tutorial", "assignment", "groceries", "dentist",
+        "laundry", "birthday", "present", "concert", "tickets", "flight", "hotel", "passport", "insurance", "taxes"
+    };
+    private static final LocalDateTime FIRST_DATE = LocalDateTime.of(2019, 1, 1, 0, 0);
+
+    /**
+     * Creates the given number of tasks of every type, with IDs from 1
+     *
+     * @param numTasks Number of tasks to be created
+     * @return List of tasks
+     */
+    static ArrayList<Task> createTasks(int numTasks) {
+        Random random = new Random(SEED);
+        ArrayList<Task> tasks = new ArrayList<>(numTasks);
+        for (int i = 1; i <= numTasks; i++) {
+            String description = createDescription(random, i);
+            Task task;
+            switch (random.nextInt(3)) {
+                case 0:
+                    task = new ToDo(description);
+                    break;
+                case 1:
+                    LocalDateTime dueDate = FIRST_DATE.plusMinutes(15L * random.nextInt(4 * 24 * 730));
+                    task = new Deadline(description, DateTimeParser.format(dueDate), dueDate);
+                    break;
+                default:
+                    task = new Event(description, "Wednesday");
+            }
+            if (random.nextInt(10) < 3) {
+                task.setDone();
+            }
+            task.setID(i);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Creates a storage in a new temporary directory, whose file holds the given number of tasks
+     *
+     * @param numTasks Number of tasks in the file
+     * @param format The format the file is written in
+     * @return Storage holding the tasks
+     * @throws IOException Thrown when writing to file fails.
+     */
+    static Storage createStorage(int numTasks, StorageFormat format) throws IOException {
+        File directory = Files.createTempDirectory("duke-bench").toFile();
+        directory.deleteOnExit();
+        Storage storage = Storage.createStorageIfRequired(directory, StorageMode.REWRITE, format);
+        new File(directory, format.getFileName()).deleteOnExit();
+        storage.overwriteStorage(createTasks(numTasks));
+        return storage;
+    }
+
+    /**
+     * Creates a script of commands like those of a large import: mostly tasks being added,
+     * with some being marked as done, deleted, searched for and listed
+     *
+     * @param numLines Number of commands in the script
+     * @return Lines of the script
+     */
+    static List<String> createScript(int numLines) {
+        Random random = new Random(SEED);
+        List<String> lines = new ArrayList<>(numLines);
+        for (int i = 1; i <= numLines; i++) {
+            int kind = random.nextInt(20);
+            if (kind < 8) {
+                lines.add("todo " + createDescription(random, i));
+            } else if (kind < 13) {
+                LocalDateTime dueDate = FIRST_DATE.plusMinutes(15L * random.nextInt(4 * 24 * 730));
+                lines.add("deadline " + createDescription(random, i) + " /by "
+                        + String.format("%02d/%02d/%04d %02d%02d", dueDate.getDayOfMonth(), dueDate.getMonthValue(),
+                        dueDate.getYear(), dueDate.getHour(), dueDate.getMinute()));
+            } else if (kind < 15) {
+                lines.add("event " + createDescription(random, i) + " /at Wednesday");
+            } else if (kind < 17) {
+                lines.add("done " + (1 + random.nextInt(i)));
+            } else if (kind < 18) {
+                lines.add("delete " + (1 + random.nextInt(i)));
+            } else if (kind < 19) {
+                lines.add("find " + WORDS[random.nextInt(WORDS.length)]);
+            } else {
+                lines.add("list from " + (1 + random.nextInt(i)) + " size 10");
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Creates a script like createScript, with some of its lines replaced by the mistakes users make
+     * most: unknown words, missing or misspelt arguments, numbers that are not numbers and dates that
+     * are not dates
+     *
+     * @param numLines Number of commands in the script
+     * @param invalidPercent Percentage of the lines that are mistakes
+     * @return Lines of the script
+     */
+    static List<String> createMixedScript(int numLines, int invalidPercent) {
+        Random random = new Random(SEED + 1);
+        List<String> lines = createScript(numLines);
+        for (int i = 1; i <= numLines; i++) {
+            if (random.nextInt(100) >= invalidPercent) {
+                continue;
+            }
+            String line;
+            switch (random.nextInt(8)) {
+                case 0:
+                    line = "todoo " + createDescription(random, i);
+                    break;
+                case 1:
+                    line = "todo";
+                    break;
+                case 2:
+                    line = "deadline " + createDescription(random, i) + " by tomorrow";
+                    break;
+                case 3:
+                    line = "deadline " + createDescription(random, i) + " /by " + (1 + random.nextInt(28)) + "th June";
+                    break;
+                case 4:
+                    line = "deadline " + createDescription(random, i) + " /by 31/13/2019 2500";
+                    break;
+                case 5:
+                    line = "done " + WORDS[random.nextInt(WORDS.length)];
+                    break;
+                case 6:
+                    line = "delete " + (1 + random.nextInt(i)) + "," + WORDS[random.nextInt(WORDS.length)];
+                    break;
+                default:
+                    line = "upcoming " + -random.nextInt(i);
+                    break;
+            }
+            lines.set(i - 1, line);
+        }
+        return lines;
+    }
+
+    //helper method to create a description of two to five words ending with a number, picking
+    //words with a skewed distribution so that the first words of the vocabulary are the most common
+    private static String createDescription(Random random, int number) {
+        StringBuilder description = new StringBuilder();
+        int numWords = 2 + random.nextInt(4);
+        for (int i = 0; i < numWords; i++) {
+            double skewed = random.nextDouble() * random.nextDouble();
+            description.append(WORDS[(int) (skewed * WORDS.length)]).append(' ');
+        }
+        return description.append(number).toString();
+    }
+}
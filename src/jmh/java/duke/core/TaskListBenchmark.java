@@ -0,0 +1,57 @@
+package duke.core;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.tasks.Task;
+
+
+/**
+ * Benchmark of finding tasks and printing the list, on task lists of increasing size.
+ * The keywords cover a word in most tasks, a rare word, a keyword too short for the trigram index
+ * and a keyword in no task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int numTasks;
+
+    @Param({"read", "taxes", "bo", "holiday"})
+    private String keyword;
+
+    private TaskList taskList;
+    private Ui ui;
+
+    /**
+     * Creates a task list holding the synthetic tasks, with a storage that is not written to.
+     */
+    @Setup
+    public void createTaskList() throws IOException {
+        Storage storage = SyntheticDataset.createStorage(0, StorageFormat.TEXT);
+        taskList = new TaskList(SyntheticDataset.createTasks(numTasks), storage);
+        ui = new Ui();
+    }
+
+    @Benchmark
+    public List<Task> findTasks() {
+        return taskList.findTasks(keyword);
+    }
+
+    @Benchmark
+    public String printNumberList() {
+        return ui.printNumberList(taskList);
+    }
+}
@@ -0,0 +1,88 @@
+package duke.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.tasks.Task;
+import duke.tasks.ToDo;
+
+
+/**
+ * Benchmark of threads finding and reading tasks from the same task list, on their own and
+ * while another thread keeps adding and removing tasks, to measure how much the readers
+ * are held up by the writer.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskListConcurrencyBenchmark {
+
+    @Param({"100000"})
+    private int numTasks;
+
+    private TaskList taskList;
+
+    /**
+     * Creates a task list holding the synthetic tasks, saved in write-behind mode so that
+     * the writer is not held up by the disk.
+     */
+    @Setup
+    public void createTaskList() throws IOException {
+        File directory = Files.createTempDirectory("duke-bench").toFile();
+        directory.deleteOnExit();
+        Storage storage = Storage.createStorageIfRequired(directory, StorageMode.WRITE_BEHIND);
+        new File(directory, StorageFormat.TEXT.getFileName()).deleteOnExit();
+        taskList = new TaskList(SyntheticDataset.createTasks(numTasks), storage);
+    }
+
+    @Benchmark
+    @Group("readOnly")
+    @GroupThreads(3)
+    public List<Task> findTasksAlone() {
+        return taskList.findTasks("taxes");
+    }
+
+    @Benchmark
+    @Group("readOnly")
+    @GroupThreads(3)
+    public Task getTaskAtAlone() {
+        return taskList.getTaskAt(1 + ThreadLocalRandom.current().nextInt(numTasks));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public List<Task> findTasks() {
+        return taskList.findTasks("taxes");
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public Task getTaskAt() {
+        return taskList.getTaskAt(1 + ThreadLocalRandom.current().nextInt(numTasks));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public Task addAndRemove() throws IOException {
+        taskList.addToList(new ToDo("pay taxes"));
+        return taskList.removeAt(numTasks / 2);
+    }
+}
@@ -0,0 +1,67 @@
+package duke.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.errors.DukeException;
+
+
+/**
+ * Benchmark of loading the task list on startup, indexes included, from the data file in either format
+ * compared with loading it from the image saved on exit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskListLoadBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int numTasks;
+
+    @Param({"TEXT", "BINARY"})
+    private StorageFormat format;
+
+    private Storage dataFileStorage;
+    private Storage imageStorage;
+
+    /**
+     * Writes the synthetic tasks to two data files, saving an image next to the second one only.
+     */
+    @Setup
+    public void writeDataFiles() throws IOException, DukeException {
+        File directory = Files.createTempDirectory("duke-bench").toFile();
+        directory.deleteOnExit();
+        dataFileStorage = Storage.createStorageIfRequired(directory, StorageMode.REWRITE, format);
+        dataFileStorage.overwriteStorage(SyntheticDataset.createTasks(numTasks));
+
+        File imageDirectory = Files.createTempDirectory("duke-bench").toFile();
+        imageDirectory.deleteOnExit();
+        imageStorage = Storage.createStorageIfRequired(imageDirectory, StorageMode.REWRITE, format);
+        imageStorage.overwriteStorage(SyntheticDataset.createTasks(numTasks));
+        TaskList.load(imageStorage).saveImage();
+        if (imageStorage.loadImage() == null) {
+            throw new IllegalStateException("The image was not saved");
+        }
+    }
+
+    @Benchmark
+    public TaskList loadFromDataFile() throws DukeException {
+        return new TaskList(dataFileStorage.load(), dataFileStorage);
+    }
+
+    @Benchmark
+    public TaskList loadFromImage() throws DukeException {
+        return TaskList.load(imageStorage);
+    }
+}
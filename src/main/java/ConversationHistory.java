@@ -0,0 +1,108 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+
+
+/**
+ * Represents the messages of the conversation kept in memory, which are shown by the conversation view.
+ * Only the most recent messages are kept. Once there are too many, the oldest ones are dropped in a
+ * single batch, and appended to a spill file first if one is given, so that the whole session
+ * can still be read back from disk.
+ */
+class ConversationHistory {
+
+    static final int DEFAULT_CAPACITY = 1000;
+
+    private List<Message> messages;
+    private int capacity;
+    private File spillFile;
+
+    /**
+     * Initialises the history on top of the list shown by the conversation view
+     *
+     * @param messages List holding the messages in memory
+     * @param capacity Largest number of messages kept in memory
+     * @param spillFile File the dropped messages are appended to, or null to forget them
+     */
+    ConversationHistory(List<Message> messages, int capacity, File spillFile) {
+        assert capacity > 0;
+        this.messages = messages;
+        this.capacity = capacity;
+        this.spillFile = spillFile;
+    }
+
+    /**
+     * Creates the history with the capacity given by the duke.history.size system property,
+     * spilling to history.txt in the given directory when the duke.history.spill property is true
+     *
+     * @param messages List holding the messages in memory
+     * @param directory Directory which holds the spill file
+     * @return History of the conversation
+     */
+    static ConversationHistory fromSystemProperties(List<Message> messages, File directory) {
+        int capacity = Math.max(1, Integer.getInteger("duke.history.size", DEFAULT_CAPACITY));
+        boolean isSpilled = Boolean.getBoolean("duke.history.spill");
+        return new ConversationHistory(messages, capacity, isSpilled ? new File(directory, "history.txt") : null);
+    }
+
+    /**
+     * Adds a message at the end of the conversation
+     *
+     * @param message Message to be added
+     */
+    void add(Message message) {
+        messages.add(message);
+        trimIfRequired();
+    }
+
+    /**
+     * Adds a reply right after the message it answers, or at the end of the conversation
+     * if that message is no longer kept in memory
+     *
+     * @param question Message being answered
+     * @param reply Reply to be added
+     * @return Position of the reply in the list
+     */
+    int addAfter(Message question, Message reply) {
+        int position = messages.indexOf(question) + 1;
+        if (position == 0) {
+            position = messages.size();
+        }
+        messages.add(position, reply);
+        int numDropped = trimIfRequired();
+        return Math.max(0, position - numDropped);
+    }
+
+    //helper method to drop the oldest tenth of the messages once there are too many, so that
+    //the view is only updated once for many messages
+    private int trimIfRequired() {
+        if (messages.size() <= capacity) {
+            return 0;
+        }
+        int numDropped = messages.size() - capacity + capacity / 10;
+        List<Message> dropped = messages.subList(0, numDropped);
+        spill(dropped);
+        dropped.clear();
+        return numDropped;
+    }
+
+    //helper method to append the dropped messages to the spill file
+    private void spill(List<Message> dropped) {
+        if (spillFile == null) {
+            return;
+        }
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(spillFile, true))) {
+            for (Message message : dropped) {
+                writer.write(message.isFromUser() ? "[user]" : message.getErrorStatus() ? "[duke error]" : "[duke]");
+                writer.newLine();
+                writer.write(message.getText());
+                writer.newLine();
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -23,6 +23,8 @@ import java.util.Collections;
  * An example of a custom control using FXML.
  * This control represents a dialog box consisting of an ImageView to represent the speaker's face and a label
  * containing text from the speaker.
+ * A dialog box can be given another message to show, so that the conversation view can reuse
+ * the same few boxes for every message it scrolls past.
  */
 
 //Some design for DialogBox.fxml
@@ -42,6 +44,8 @@ public class DialogBox extends HBox {
 
     private static final Insets DIALOGBOX_BACKGROUND_INSET = new Insets(0,0,0,0);
 
+    private boolean isFlipped;
+
     private DialogBox(String text, Image img) {
         try {
             FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
@@ -57,13 +61,46 @@ public class DialogBox extends HBox {
     }
 
     /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
+     * Flips the dialog box such that the ImageView is on the left and text on the right,
+     * or back again if it was already flipped.
      */
     private void flip() {
         ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
         Collections.reverse(tmp);
         getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
+        isFlipped = !isFlipped;
+        setAlignment(isFlipped ? Pos.TOP_LEFT : Pos.TOP_RIGHT);
+    }
+
+    /**
+     * Shows another message in this dialog box, with the layout and colour of its speaker
+     *
+     * @param message Message to be shown
+     * @param img Picture of the speaker of the message
+     */
+    void showMessage(Message message, Image img) {
+        dialog.setText(message.getText());
+        displayPicture.setImage(img);
+        Color correctColor = message.isFromUser() ? DIALOGBOX_BACKGROUND_BLUE
+                : message.getErrorStatus() ? DIALOGBOX_BACKGROUND_RED : DIALOGBOX_BACKGROUND_GREEN;
+        setBackground(
+                new Background(
+                        new BackgroundFill(
+                                correctColor,
+                                DIALOGBOX_BACKGROUND_RADII,
+                                DIALOGBOX_BACKGROUND_INSET)));
+        if (isFlipped == message.isFromUser()) {
+            flip();
+        }
+    }
+
+    /**
+     * Creates an empty dialog box, to be given a message with showMessage
+     *
+     * @return Empty dialog box
+     */
+    static DialogBox createEmpty() {
+        return new DialogBox("", null);
     }
 
     // sets the background to a blue rounded corner box
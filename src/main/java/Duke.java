@@ -2,25 +2,34 @@ import duke.commands.Command;
 import duke.commands.CommandType;
 
 import duke.core.Storage;
+import duke.core.StorageFormat;
+import duke.core.StorageMode;
 import duke.core.Ui;
 import duke.core.TaskList;
 import duke.core.Parser;
 
 import duke.errors.DukeException;
-import duke.tasks.Task;
+
+import duke.metrics.CommandMetrics;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 /**
  * The driver class to run user interface of Duke. Duke provides commands to add different tasks,
  * list out tasks, marking tasks as done, deleting tasks and storing the tasks into a file for
- * retrieval after reboot
+ * retrieval after reboot.
+ * Commands can be submitted to a single background thread, which runs them one at a time
+ * in the order they were submitted, so that the user interface never waits on a command.
  */
 public class Duke {
 
     private Ui ui;
     private TaskList taskList;
+    private ExecutorService commandExecutor;
 
 
     /**
@@ -28,17 +37,46 @@ public class Duke {
      * @throws DukeException Thrown when parts of the command cannot be executed.
      */
     Duke() throws DukeException {
-        Storage storage = Storage.createStorageIfRequired();
-        this.taskList = new TaskList(storage.load(), storage);
-        Task.setTaskList(taskList);
+        Storage storage = Storage.createStorageIfRequired(StorageMode.fromSystemProperty(),
+                StorageFormat.fromSystemProperty());
+        this.taskList = TaskList.load(storage);
         this.ui = new Ui();
+        this.commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "duke-commands");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
 
+    /**
+     * Submits the input to be run after every input submitted before it, without waiting for it.
+     *
+     * @param input Input of the user
+     * @return Future completed with the response to the input
+     */
+    CompletableFuture<Response> submit(String input) {
+        return CompletableFuture.supplyAsync(() -> getResponse(input), commandExecutor)
+                .exceptionally(error -> {
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    return new Response(ui.printOneLine(cause.toString()), true);
+                });
+    }
+
+    /**
+     * Runs the input straight away on the calling thread.
+     *
+     * @param input Input of the user
+     * @return Response to the input
+     */
     Response getResponse(String input) {
         try {
             Command c = Parser.parseCommand(input);
-            return new Response(c.execute(taskList, ui),false);
+            String response = CommandMetrics.execute(c, taskList, ui);
+            if (c.getCommandType() == CommandType.COMMAND_EXIT) {
+                taskList.saveImage();
+            }
+            return new Response(response,false);
         } catch (IllegalArgumentException | DukeException | IOException error2) {
             return new Response(ui.printErrorMessage(error2),true);
         }
@@ -0,0 +1,244 @@
+import duke.commands.Command;
+import duke.commands.CommandType;
+
+import duke.core.Parser;
+import duke.core.Storage;
+import duke.core.StorageFormat;
+import duke.core.StorageMode;
+import duke.core.TaskList;
+import duke.core.Ui;
+
+import duke.errors.DukeException;
+
+import duke.metrics.CommandMetrics;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Serves the commands of Duke to other programs on the same computer over a local TCP socket.
+ * Each line received is run as a command, and its reply is sent back followed by a line holding
+ * only a full stop. Reply lines starting with a full stop have another one added in front.
+ * Every connection is served by its own thread, and all of them share the same task list.
+ * Commands that only read the task list run on the thread of their connection, at the same time
+ * as each other, while commands that change it are passed to a single thread and run one at a time.
+ * An image of the task list is saved when the server is stopped, to be loaded on the next start.
+ */
+public class DukeServer {
+
+    static final int DEFAULT_PORT = 4242;
+    static final String END_OF_REPLY = ".";
+
+    private ServerSocket serverSocket;
+    private TaskList taskList;
+    private ExecutorService connectionExecutor;
+    private ExecutorService writeExecutor;
+
+    /**
+     * Initialises the server on the data file of the application, listening on the loopback address
+     *
+     * @param port Port to listen on
+     * @throws DukeException Thrown when the data file cannot be loaded.
+     * @throws IOException Thrown when the port cannot be listened on.
+     */
+    DukeServer(int port) throws DukeException, IOException {
+        this(TaskList.load(Storage.createStorageIfRequired(StorageMode.fromSystemProperty(),
+                StorageFormat.fromSystemProperty())), port);
+    }
+
+    /**
+     * Initialises the server on the given task list, listening on the loopback address
+     *
+     * @param taskList Task list shared by every connection
+     * @param port Port to listen on, or 0 for any free port
+     * @throws IOException Thrown when the port cannot be listened on.
+     */
+    DukeServer(TaskList taskList, int port) throws IOException {
+        this.taskList = taskList;
+        this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        AtomicInteger numConnections = new AtomicInteger();
+        this.connectionExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "duke-connection-" + numConnections.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "duke-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Serves connections on the port given as the first argument, or on port 4242 if there is none
+     *
+     * @param args Arguments after --server
+     * @throws DukeException Thrown when the data file cannot be loaded.
+     * @throws IOException Thrown when the port cannot be listened on.
+     */
+    public static void main(String[] args) throws DukeException, IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        DukeServer server = new DukeServer(port);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::saveImageOnExit, "duke-image-on-exit"));
+        System.out.print(new Ui().printListeningMessage(server.getAddress()));
+        server.serve();
+    }
+
+    /**
+     * Accepts connections until the server socket is closed, serving each on its own thread.
+     * A connection that fails to be accepted is reported and the next one is accepted.
+     */
+    void serve() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException error) {
+                if (!serverSocket.isClosed()) {
+                    error.printStackTrace();
+                }
+                continue;
+            }
+            connectionExecutor.execute(() -> serveConnection(socket));
+        }
+    }
+
+    /**
+     * getter for the address the server is listening on
+     *
+     * @return Loopback address and port of the server socket
+     */
+    SocketAddress getAddress() {
+        return serverSocket.getLocalSocketAddress();
+    }
+
+    /**
+     * Stops accepting connections, which ends serve. Connections already open are served until they close.
+     *
+     * @throws IOException Thrown when the server socket cannot be closed.
+     */
+    void stop() throws IOException {
+        serverSocket.close();
+    }
+
+    //helper method to save an image of the task list for the next start when the server is stopped
+    private void saveImageOnExit() {
+        try {
+            taskList.saveImage();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    //helper method to run the commands of a connection until it is closed or sends bye
+    private void serveConnection(Socket socket) {
+        Ui ui = new Ui();
+        try (socket;
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                Command command = null;
+                String reply;
+                try {
+                    command = Parser.parseCommand(line);
+                    reply = runCommand(command, ui);
+                } catch (IllegalArgumentException | DukeException | IOException error) {
+                    reply = ui.printErrorMessage(error);
+                } catch (RuntimeException error) {
+                    //any other failure is a bug, but the client is still owed a reply ending in a full stop
+                    error.printStackTrace();
+                    reply = ui.printOneLine("Unknown error! Please try again.");
+                }
+                writeReply(writer, reply);
+                if (command != null && command.getCommandType() == CommandType.COMMAND_EXIT) {
+                    break;
+                }
+            }
+        } catch (IOException error) {
+            //the connection was dropped by the other side, leaving nothing to reply to
+        }
+    }
+
+    //helper method to run a command that only reads the task list straight away,
+    //and to pass any other command to the thread that changes the task list
+    private String runCommand(Command command, Ui ui) throws DukeException, IOException {
+        if (isReadOnly(command.getCommandType())) {
+            return CommandMetrics.execute(command, taskList, ui);
+        }
+        Future<String> reply = writeExecutor.submit(() -> CommandMetrics.execute(command, taskList, ui));
+        try {
+            return reply.get();
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the command", error);
+        } catch (ExecutionException error) {
+            Throwable cause = error.getCause();
+            if (cause instanceof DukeException) {
+                throw (DukeException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    //helper method to check if a command only reads the task list
+    private static boolean isReadOnly(CommandType commandType) {
+        switch (commandType) {
+            case COMMAND_SHOW_LIST:
+            case COMMAND_FIND_TASK:
+            case COMMAND_UPCOMING:
+            case COMMAND_DUE:
+            case COMMAND_HELP:
+            case COMMAND_STATS:
+            case COMMAND_NULL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    //helper method to send a reply followed by the line ending it
+    static void writeReply(Writer writer, String reply) throws IOException {
+        int start = 0;
+        while (start < reply.length()) {
+            int end = reply.indexOf('\n', start);
+            if (end < 0) {
+                end = reply.length();
+            }
+            if (reply.startsWith(END_OF_REPLY, start)) {
+                writer.write(END_OF_REPLY);
+            }
+            writer.write(reply, start, end - start);
+            writer.write('\n');
+            start = end + 1;
+        }
+        writer.write(END_OF_REPLY);
+        writer.write('\n');
+        writer.flush();
+    }
+}
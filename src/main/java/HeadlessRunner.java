@@ -0,0 +1,118 @@
+import duke.commands.Command;
+import duke.commands.CommandType;
+
+import duke.core.Parser;
+import duke.core.Storage;
+import duke.core.StorageFormat;
+import duke.core.StorageMode;
+import duke.core.TaskList;
+import duke.core.Ui;
+
+import duke.errors.DukeException;
+
+import duke.metrics.CommandMetrics;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+
+
+/**
+ * Runs Duke without the graphical interface, reading one command per line from standard input or
+ * a script file and writing the replies to standard output. The changes made by the commands are
+ * saved together at the end, or after every batch of commands if a batch size is given through the
+ * duke.headless.batchSize system property, so that large scripts are not slowed down by the disk.
+ */
+public class HeadlessRunner {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private Storage storage;
+    private TaskList taskList;
+    private Ui ui;
+    private int batchSize;
+
+    /**
+     * Initialises the runner on the data file of the application.
+     *
+     * @param batchSize Number of commands whose changes are saved together, or 0 to save only at the end
+     * @throws DukeException Thrown when the data file cannot be loaded.
+     */
+    HeadlessRunner(int batchSize) throws DukeException {
+        this.storage = Storage.createStorageIfRequired(StorageMode.fromSystemProperty(),
+                StorageFormat.fromSystemProperty());
+        this.taskList = TaskList.load(storage);
+        this.ui = new Ui();
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Runs the commands in the file given as the first argument, or in standard input if there is none
+     *
+     * @param args Arguments after --headless
+     * @throws DukeException Thrown when the data file cannot be loaded.
+     * @throws IOException Thrown when reading the commands or saving the changes fails.
+     */
+    public static void main(String[] args) throws DukeException, IOException {
+        HeadlessRunner runner = new HeadlessRunner(Integer.getInteger("duke.headless.batchSize", 0));
+        Reader input = args.length > 0 ? new FileReader(args[0]) : new InputStreamReader(System.in);
+        try (BufferedReader reader = new BufferedReader(input, BUFFER_SIZE)) {
+            Writer output = new BufferedWriter(new OutputStreamWriter(System.out), BUFFER_SIZE);
+            runner.run(reader, output);
+        }
+    }
+
+    /**
+     * Runs every command read until the end of the input or the bye command,
+     * writing the replies to the output and flushing it at the end.
+     * Once the changes are saved, an image of the task list is saved for the next start.
+     *
+     * @param reader Input holding one command per line
+     * @param writer Output the replies are written to
+     * @return Number of commands run
+     * @throws IOException Thrown when reading the commands or saving the changes fails.
+     */
+    int run(BufferedReader reader, Writer writer) throws IOException {
+        int numCommands = 0;
+        storage.beginBatch();
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                numCommands++;
+                boolean isExit = runCommand(line, writer);
+                if (isExit) {
+                    break;
+                }
+                if (batchSize > 0 && numCommands % batchSize == 0) {
+                    storage.endBatch();
+                    storage.beginBatch();
+                }
+            }
+        } finally {
+            storage.endBatch();
+            writer.flush();
+        }
+        taskList.saveImage();
+        return numCommands;
+    }
+
+    //helper method to run a single command and write its reply, returning true for the bye command
+    private boolean runCommand(String input, Writer writer) throws IOException {
+        try {
+            Command command = Parser.parseCommand(input);
+            writer.write(CommandMetrics.execute(command, taskList, ui));
+            return command.getCommandType() == CommandType.COMMAND_EXIT;
+        } catch (IllegalArgumentException | DukeException error) {
+            writer.write(ui.printErrorMessage(error));
+            return false;
+        }
+    }
+}
@@ -1,10 +1,22 @@
 import javafx.application.Application;
 
+import java.util.Arrays;
+
 /**
  * A launcher class to workaround classpath issues.
+ * Starting with --headless runs Duke from the console instead, without loading JavaFX,
+ * and starting with --server serves it to other programs over a local socket.
  */
 public class Launcher {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("--headless")) {
+            HeadlessRunner.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--server")) {
+            DukeServer.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Application.launch(Main.class, args);
     }
-}
\ No newline at end of file
+}
@@ -1,33 +1,35 @@
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.control.Dialog;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
+
+import java.io.File;
 
 import duke.core.Ui;
 
 
 /**
  * Controller for MainWindow. Provides the layout for the other controls.
+ * The conversation is shown in a list view, which only creates dialog boxes for the messages
+ * on screen, and only the most recent messages are kept in memory.
  */
 
 //Some design for MainWindow.fxml
 //adapted from https://github.com/calvincxz/duke/blob/master/src/main/resources/view/MainWindow.fxml
 public class MainWindow extends AnchorPane {
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<Message> conversation;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
 
     private Duke duke;
+    private ConversationHistory history;
 
     private Image userImage = new Image(this.getClass().getResourceAsStream("/images/DaUser.png"));
     private Image dukeImage = new Image(this.getClass().getResourceAsStream("/images/DaDuke.png"));
@@ -36,40 +38,69 @@ public class MainWindow extends AnchorPane {
 
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        conversation.setCellFactory(listView -> new MessageCell(listView));
+        File dataDirectory = new File(System.getProperty("user.home"), "DukeData");
+        history = ConversationHistory.fromSystemProperties(conversation.getItems(), dataDirectory);
     }
 
     
     public void setDuke(Duke d) {
         duke = d;
-        dialogContainer.getChildren().add(DialogBox.getDukeDialog(ui.printWelcomeMessage(), dukeImage, 0));
+        history.add(new Message(ui.printWelcomeMessage(), false, false));
     }
 
     /**
-     * Creates two dialog boxes, one echoing user input and the other containing Duke's reply and then appends them to
-     * the dialog container. Clears the user input after processing.
+     * Adds two messages to the conversation, one echoing user input and the other containing Duke's reply.
+     * Clears the user input straight away, while the command runs in the background.
+     * The reply is placed right after the input it answers once the command finishes.
      */
     @FXML
     private void handleUserInput() {
         String input = userInput.getText();
-        Response response = duke.getResponse(input);
-        int mode = booleanToInteger(response.getErrorStatus());
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getDukeDialog(response.getMessage(), dukeImage,mode)
-        );
-        if (input.equals("bye")) {
-            Platform.exit();
-            System.exit(0);
-        }
+        Message question = new Message(input, true, false);
+        history.add(question);
+        scrollToEnd();
         userInput.clear();
+
+        duke.submit(input).thenAccept(response -> Platform.runLater(() -> {
+            history.addAfter(question, new Message(response.getMessage(), false, response.getErrorStatus()));
+            scrollToEnd();
+            if (input.equals("bye")) {
+                Platform.exit();
+                System.exit(0);
+            }
+        }));
+    }
+
+    //helper method to show the latest message
+    private void scrollToEnd() {
+        conversation.scrollTo(conversation.getItems().size() - 1);
     }
 
-    private int booleanToInteger(boolean isTrue) {
-        if (isTrue) {
-            return 1;
-        } else {
-            return 0;
+    /**
+     * Represents a cell of the conversation view, which shows every message it is given
+     * in the same dialog box.
+     */
+    private class MessageCell extends ListCell<Message> {
+
+        private DialogBox dialogBox;
+
+        MessageCell(ListView<Message> listView) {
+            this.dialogBox = DialogBox.createEmpty();
+            this.dialogBox.prefWidthProperty().bind(listView.widthProperty().subtract(30));
+            this.dialogBox.setMaxWidth(USE_PREF_SIZE);
+        }
+
+        @Override
+        protected void updateItem(Message message, boolean isEmpty) {
+            super.updateItem(message, isEmpty);
+            setText(null);
+            if (isEmpty || message == null) {
+                setGraphic(null);
+            } else {
+                dialogBox.showMessage(message, message.isFromUser() ? userImage : dukeImage);
+                setGraphic(dialogBox);
+            }
         }
     }
 }
@@ -0,0 +1,50 @@
+/**
+ * Represents a single message of the conversation, either typed by the user or replied by Duke.
+ * A message provides the getter methods to its text, its speaker and its error status
+ */
+class Message {
+
+    private String text;
+    private boolean isFromUser;
+    private boolean isError;
+
+    /**
+     * Initialises a message of the conversation
+     *
+     * @param text Text of the message
+     * @param isFromUser True if the user typed the message, false if Duke replied with it
+     * @param isError Error status of a reply from Duke
+     */
+    Message(String text, boolean isFromUser, boolean isError) {
+        this.text = text;
+        this.isFromUser = isFromUser;
+        this.isError = isError;
+    }
+
+    /**
+     * Returns the text of the message
+     *
+     * @return Text of the message
+     */
+    String getText() {
+        return text;
+    }
+
+    /**
+     * Returns whether the user typed the message
+     *
+     * @return True if the user typed the message, false if Duke replied with it
+     */
+    boolean isFromUser() {
+        return isFromUser;
+    }
+
+    /**
+     * Returns the error status tagged to the message
+     *
+     * @return Error status
+     */
+    boolean getErrorStatus() {
+        return isError;
+    }
+}
@@ -1,6 +1,7 @@
 package duke.commands;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 
 
 import duke.core.TaskList;
@@ -19,6 +20,7 @@ public class AddDeadlineCommand extends Command {
 
     private String description;
     private String date;
+    private LocalDateTime dateTime;
 
     /**
      * Initialises the add command which contains the parameters of the task to be created
@@ -27,9 +29,21 @@ public class AddDeadlineCommand extends Command {
      * @param date date description
      */
     public AddDeadlineCommand(String description, String date) {
+        this(description, date, null);
+    }
+
+    /**
+     * Initialises the add command for a deadline whose date was recognised
+     *
+     * @param description deadline description
+     * @param date date description
+     * @param dateTime date and time the description was parsed from, or null if it was not recognised
+     */
+    public AddDeadlineCommand(String description, String date, LocalDateTime dateTime) {
         super(CommandType.COMMAND_ADD_DEADLINE);
         this.description = description;
         this.date = date;
+        this.dateTime = dateTime;
 
         DukeAssertions.assertNotNull(description,date);
     }
@@ -43,7 +57,7 @@ public class AddDeadlineCommand extends Command {
      */
     @Override
     public String execute(TaskList taskList, Ui ui) throws IOException {
-        Deadline task = new Deadline(this.description,this.date);
+        Deadline task = new Deadline(this.description,this.date,this.dateTime);
 
         DukeAssertions.assertNotNull(taskList,ui);
 
@@ -1,6 +1,7 @@
 package duke.commands;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 
 
 import duke.core.TaskList;
@@ -20,6 +21,7 @@ public class AddEventCommand extends Command{
 
     private String description;
     private String date;
+    private LocalDateTime dateTime;
 
 
     /**
@@ -29,9 +31,21 @@ public class AddEventCommand extends Command{
      * @param date date description
      */
     public AddEventCommand(String description, String date) {
+        this(description, date, null);
+    }
+
+    /**
+     * Initialises the add command for an event whose date was recognised
+     *
+     * @param description event description
+     * @param date date description
+     * @param dateTime date and time the description was parsed from, or null if it was not recognised
+     */
+    public AddEventCommand(String description, String date, LocalDateTime dateTime) {
         super(CommandType.COMMAND_ADD_EVENT);
         this.description = description;
         this.date = date;
+        this.dateTime = dateTime;
 
         DukeAssertions.assertNotNull(description,date);
     }
@@ -44,7 +58,7 @@ public class AddEventCommand extends Command{
      * @throws IOException Thrown when the new task cannot be added to the file.
      */
     public String execute(TaskList taskList, Ui ui) throws IOException {
-        Event task = new Event(this.description,this.date);
+        Event task = new Event(this.description,this.date,this.dateTime);
 
         DukeAssertions.assertNotNull(taskList,ui);
 
@@ -16,16 +16,16 @@ import duke.tasks.ToDo;
  */
 public class AddToDoCommand extends Command{
 
-    private String [] tokens;
+    private String description;
 
     /**
      * Initialises the add command which contains the parameters of the task to be created
      *
-     * @param tokens user input split by space, required for creating a to-do task
+     * @param description Description of the to-do task to be created
      */
-    public AddToDoCommand(String [] tokens) {
+    public AddToDoCommand(String description) {
         super(CommandType.COMMAND_ADD_TODO);
-        this.tokens = tokens;
+        this.description = description;
 
     }
 
@@ -38,7 +38,7 @@ public class AddToDoCommand extends Command{
      */
     @Override
     public String execute(TaskList taskList, Ui ui) throws IOException {
-        ToDo task = ToDo.createToDo(tokens);
+        ToDo task = new ToDo(description);
         DukeAssertions.assertNotNull(taskList,ui);
         taskList.addToList(task);
         return ui.printAddMessage(task, taskList);
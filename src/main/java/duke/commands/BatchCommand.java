@@ -0,0 +1,159 @@
+package duke.commands;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.core.Parser;
+import duke.core.TaskList;
+import duke.core.Ui;
+import duke.errors.DukeAssertions;
+import duke.errors.DukeException;
+import duke.errors.DukeExceptionType;
+
+
+/**
+ * Represents a command which contains an execute method that runs several commands entered together,
+ * as one transaction on the task list. The commands are entered after the batch word, separated by
+ * semicolons, with two semicolons standing for one that is part of a command, or on separate lines.
+ * A semicolon anywhere else is part of the command, so it can appear in a task description.
+ * The changes made by the commands are saved with a single write, and none of them are kept
+ * if any of the commands fails.
+ */
+public class BatchCommand extends Command {
+
+    private static final String BATCH_WORD = "batch";
+    private static final char SEPARATOR = ';';
+
+    private List<String> inputs;
+    private List<Command> commands;
+
+    /**
+     * Initialises the command which contains the commands to be run
+     *
+     * @param inputs Input of each command, for reporting the command that failed
+     * @param commands Commands to be run, in order
+     */
+    private BatchCommand(List<String> inputs, List<Command> commands) {
+        super(CommandType.COMMAND_BATCH);
+        this.inputs = inputs;
+        this.commands = commands;
+        assert inputs.size() == commands.size();
+    }
+
+    /**
+     * Service for creating a batch command that parses every command before any of them is run,
+     * skipping the empty ones
+     *
+     * @param input User input holding the commands after the batch word or on separate lines
+     * @return Batch command running the commands in order
+     * @throws DukeException Thrown when a command cannot be parsed or is the bye command
+     */
+    public static BatchCommand createBatchIfValid(String input) throws DukeException {
+        List<String> inputs = splitCommands(input);
+        List<Command> commands = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            Command command;
+            try {
+                command = Parser.parseCommand(inputs.get(i));
+            } catch (IllegalArgumentException | DukeException error) {
+                throw new DukeException(describeFailure(i, inputs, error.getMessage()), DukeExceptionType.BATCH_FAILED);
+            }
+            if (command.getCommandType() == CommandType.COMMAND_EXIT) {
+                throw new DukeException(describeFailure(i, inputs, "bye cannot be part of several commands"),
+                        DukeExceptionType.BATCH_FAILED);
+            }
+            commands.add(command);
+        }
+        return new BatchCommand(inputs, commands);
+    }
+
+    //helper method to split the input into lines, and the lines starting with the batch word into
+    //the commands after it, without the empty commands
+    private static List<String> splitCommands(String input) {
+        List<String> inputs = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= input.length(); i++) {
+            if (i == input.length() || input.charAt(i) == '\n') {
+                String line = input.substring(start, i).trim();
+                if (isBatchLine(line)) {
+                    splitBatchLine(line, inputs);
+                } else if (!line.isEmpty()) {
+                    inputs.add(line);
+                }
+                start = i + 1;
+            }
+        }
+        return inputs;
+    }
+
+    //helper method to check if a line starts with the batch word on its own
+    private static boolean isBatchLine(String line) {
+        return line.startsWith(BATCH_WORD)
+                && (line.length() == BATCH_WORD.length() || line.charAt(BATCH_WORD.length()) == ' ');
+    }
+
+    //helper method to split the commands after the batch word at every semicolon,
+    //turning two semicolons in a row into one that is part of the command
+    private static void splitBatchLine(String line, List<String> inputs) {
+        StringBuilder command = new StringBuilder();
+        for (int i = BATCH_WORD.length(); i < line.length(); i++) {
+            char character = line.charAt(i);
+            if (character != SEPARATOR) {
+                command.append(character);
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == SEPARATOR) {
+                command.append(SEPARATOR);
+                i++;
+            } else {
+                addCommand(command, inputs);
+            }
+        }
+        addCommand(command, inputs);
+    }
+
+    //helper method to add the command built so far unless it is empty, and start the next one
+    private static void addCommand(StringBuilder command, List<String> inputs) {
+        String input = command.toString().trim();
+        if (!input.isEmpty()) {
+            inputs.add(input);
+        }
+        command.setLength(0);
+    }
+
+    //helper method to build the message telling the user which command failed
+    private static String describeFailure(int position, List<String> inputs, String reason) {
+        return "Command " + (position + 1) + " of " + inputs.size() + " (" + inputs.get(position)
+                + ") failed, so no changes were made: " + reason;
+    }
+
+    /**
+     * Runs every command in order and prints their replies together, saving their changes
+     * with a single write. If a command fails, the changes of the commands before it are undone.
+     *
+     * @param taskList The main task list of the application.
+     * @param ui The main user interface of the application.
+     * @throws DukeException Thrown when one of the commands fails.
+     * @throws IOException Thrown when the file update fails.
+     */
+    @Override
+    public String execute(TaskList taskList, Ui ui) throws DukeException, IOException {
+        DukeAssertions.assertNotNull(taskList, ui);
+        StringBuilder replies = new StringBuilder();
+        taskList.beginTransaction();
+        int position = 0;
+        try {
+            for (; position < commands.size(); position++) {
+                replies.append(commands.get(position).execute(taskList, ui));
+            }
+        } catch (IllegalArgumentException | DukeException error) {
+            taskList.rollback();
+            throw new DukeException(describeFailure(position, inputs, error.getMessage()),
+                    DukeExceptionType.BATCH_FAILED);
+        } catch (IOException | RuntimeException error) {
+            taskList.rollback();
+            throw error;
+        }
+        taskList.commit();
+        return replies.toString();
+    }
+}
@@ -0,0 +1,158 @@
+package duke.commands;
+
+/**
+ * Represents the words following the command word in a line of input, read one at a time
+ * without splitting the input. The words are separated by single spaces, so two spaces in a row
+ * surround an empty word, while spaces at the end of the input are ignored.
+ */
+public class CommandArguments {
+
+    /** Returned when a word read as a number is not an integer */
+    public static final long NOT_A_NUMBER = Long.MIN_VALUE;
+
+    private static final char SEPARATOR = ' ';
+
+    private final String input;
+    private final int end;
+    private int position;
+
+    /**
+     * Initialises the arguments following the command word
+     *
+     * @param input Line of input
+     * @param commandEnd Index in the input just after the command word
+     */
+    public CommandArguments(String input, int commandEnd) {
+        this.input = input;
+        this.position = commandEnd;
+        int end = input.length();
+        while (end > commandEnd && input.charAt(end - 1) == SEPARATOR) {
+            end--;
+        }
+        this.end = end;
+    }
+
+    /**
+     * Checks if there are words left to be read
+     *
+     * @return True if there is another word, false otherwise
+     */
+    public boolean hasNext() {
+        return position < end;
+    }
+
+    /**
+     * Counts the words left to be read, without reading them
+     *
+     * @return Number of words left
+     */
+    public int countRemaining() {
+        int count = 0;
+        for (int i = position; i < end; i++) {
+            if (input.charAt(i) == SEPARATOR) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reads the next word
+     *
+     * @return Next word, which is empty between two spaces in a row
+     */
+    public String next() {
+        int start = skipSeparator();
+        return input.substring(start, position);
+    }
+
+    /**
+     * Reads the next word and checks if it is the given word, without copying it
+     *
+     * @param word Word to be compared with
+     * @return True if the next word is the given word, false otherwise
+     */
+    public boolean nextEquals(String word) {
+        int start = skipSeparator();
+        return position - start == word.length() && input.startsWith(word, start);
+    }
+
+    /**
+     * Reads the next word as a number, without copying it
+     *
+     * @return Number in the next word, or NOT_A_NUMBER if the word is not an integer
+     */
+    public long nextNumber() {
+        int start = skipSeparator();
+        return parseNumber(input, start, position);
+    }
+
+    /**
+     * Reads part of a text as a number, accepting the same integers as Integer.parseInt
+     * without throwing when the text is not one, since bad input is as common as good input
+     *
+     * @param text Text containing the number
+     * @param start Index where the number starts
+     * @param end Index just after the number
+     * @return Number in the text, or NOT_A_NUMBER if the text is not an integer
+     */
+    static long parseNumber(CharSequence text, int start, int end) {
+        int i = start;
+        boolean isNegative = false;
+        if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            isNegative = text.charAt(i) == '-';
+            i++;
+        }
+        if (i == end) {
+            return NOT_A_NUMBER;
+        }
+        long limit = isNegative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long number = 0;
+        for (; i < end; i++) {
+            int digit = Character.digit(text.charAt(i), 10);
+            if (digit < 0) {
+                return NOT_A_NUMBER;
+            }
+            number = number * 10 + digit;
+            if (number > limit) {
+                return NOT_A_NUMBER;
+            }
+        }
+        return isNegative ? -number : number;
+    }
+
+    /**
+     * Returns the text of the words left, as they were typed
+     *
+     * @return Words left along with the spaces between them
+     */
+    public String getRemaining() {
+        return position < end ? input.substring(position + 1, end) : "";
+    }
+
+    /**
+     * Returns the text of the words left without the spaces between them
+     *
+     * @return Words left joined together
+     */
+    public String getRemainingWithoutSpaces() {
+        StringBuilder builder = new StringBuilder(end - position);
+        for (int i = position; i < end; i++) {
+            char c = input.charAt(i);
+            if (c != SEPARATOR) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    //helper method to move past the space in front of the next word and then past the word,
+    //returning where the word starts
+    private int skipSeparator() {
+        assert hasNext();
+        int start = position + 1;
+        int wordEnd = input.indexOf(SEPARATOR, start);
+        position = wordEnd < 0 || wordEnd > end ? end : wordEnd;
+        return start;
+    }
+}
@@ -13,6 +13,10 @@ public enum CommandType {
     COMMAND_NULL,
     COMMAND_EXIT,
     COMMAND_FIND_TASK,
+    COMMAND_UPCOMING,
+    COMMAND_DUE,
+    COMMAND_BATCH,
+    COMMAND_STATS,
     COMMAND_HELP
 }
 
@@ -1,6 +1,7 @@
 package duke.commands;
 
 import java.io.IOException;
+import java.util.List;
 
 import duke.core.TaskList;
 import duke.core.Ui;
@@ -14,12 +15,14 @@ import duke.tasks.Task;
 /**
  * Represents a command which contains an execute method that deletes a task to the task list.
  * The DeleteCommand object requires the task number of the task in the list that is to be
- * deleted from the list.
+ * deleted from the list, or several task numbers and ranges of them, such as 1,4,9 or 10-500,
+ * or done for every task that is done, which are deleted together.
  */
 
 public class DeleteCommand extends Command {
 
     private int index;
+    private TaskSelection selection;
 
 
     /**
@@ -33,18 +36,31 @@ public class DeleteCommand extends Command {
         assert index >= 0;
     }
 
+    /**
+     * Initialises the command which contains the tasks to be deleted together
+     * @param selection The tasks to be deleted
+     */
+    private DeleteCommand(TaskSelection selection) {
+        super(CommandType.COMMAND_DELETE_TASK);
+        this.selection = selection;
+    }
+
     /**
      * Service for creating a delete command that checks for number formatting errors
-     * @param tokens User input split by space, required for creating a delete command
+     * @param arguments Words following the command word, required for creating a delete command
      * @throws DukeException Thrown when the parameters does not specify the index of the task
      */
-    public static DeleteCommand createDeleteIfValid(String [] tokens) throws DukeException {
-        try {
-            int index = Integer.parseInt(tokens[1])-1;
-            return new DeleteCommand(index);
-        } catch (NumberFormatException error) {
+    public static DeleteCommand createDeleteIfValid(CommandArguments arguments) throws DukeException {
+        String first = arguments.next();
+        if (TaskSelection.isSelection(first)) {
+            String text = first + arguments.getRemainingWithoutSpaces();
+            return new DeleteCommand(TaskSelection.createSelectionIfValid(text, true));
+        }
+        long number = CommandArguments.parseNumber(first, 0, first.length());
+        if (number == CommandArguments.NOT_A_NUMBER) {
             throw new DukeException("Must be integer", DukeExceptionType.NOT_INTEGER);
         }
+        return new DeleteCommand((int) number - 1);
     }
 
     /**
@@ -52,19 +68,23 @@ public class DeleteCommand extends Command {
      *
      * @param taskList The main task list of the application.
      * @param ui The main user interface of the application.
+     * @throws DukeException Thrown when there is no such task.
      * @throws IOException Thrown when the task cannot be removed from the file.
      */
     @Override
-    public String execute(TaskList taskList, Ui ui) throws IOException {
+    public String execute(TaskList taskList, Ui ui) throws DukeException, IOException {
         assert ui != null;
+        if (this.selection != null) {
+            List<Task> tasks = taskList.removeAllAt(this.selection.getIndexes(taskList));
+            return ui.printBulkDeletion(tasks, taskList);
+        }
         try {
             assert taskList != null;
 
-            Task task = taskList.getTaskAt(index+1);
-            taskList.removeFromList(task);
+            Task task = taskList.removeAt(index+1);
             return ui.printDeletion(task, taskList);
         } catch (IndexOutOfBoundsException error3) {
-            return ui.printOneLine(new DukeException("No such task", DukeExceptionType.MISSING_TASK).getMessage());
+            throw new DukeException("No such task", DukeExceptionType.MISSING_TASK);
         }
     }
 
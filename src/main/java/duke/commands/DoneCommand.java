@@ -15,11 +15,13 @@ import duke.tasks.Task;
 
 /**
  * Represents a command which contains an execute method that marks a task in the task list as done.
- * The DoneCommand object requires the task number of the task that is to be marked in the list.
+ * The DoneCommand object requires the task number of the task that is to be marked in the list,
+ * or several task numbers and ranges of them, such as 1,4,9 or 10-500, which are marked together.
  */
 public class DoneCommand extends Command{
 
     private int index;
+    private TaskSelection selection;
 
     /**
      * Initialises the command which contains the index of the task
@@ -33,20 +35,34 @@ public class DoneCommand extends Command{
         assert index >= 0;
     }
 
+    /**
+     * Initialises the command which contains the tasks to be marked as done together
+     *
+     * @param selection The tasks to be marked as done
+     */
+    private DoneCommand(TaskSelection selection) {
+        super(CommandType.COMMAND_DONE_TASK);
+        this.selection = selection;
+    }
+
 
     /**
      * Service for creating a done command that checks for number formatting errors
      *
-     * @param tokens User input split by space, required for creating a done command
+     * @param arguments Words following the command word, required for creating a done command
      * @throws DukeException Thrown when the parameters does not specify the index of  the task
      */
-    public static DoneCommand createDoneIfValid(String [] tokens) throws DukeException {
-        try {
-            int index = Integer.parseInt(tokens[1])-1;
-            return new DoneCommand(index);
-        } catch (NumberFormatException error) {
+    public static DoneCommand createDoneIfValid(CommandArguments arguments) throws DukeException {
+        String first = arguments.next();
+        if (TaskSelection.isSelection(first)) {
+            String text = first + arguments.getRemainingWithoutSpaces();
+            return new DoneCommand(TaskSelection.createSelectionIfValid(text, false));
+        }
+        long number = CommandArguments.parseNumber(first, 0, first.length());
+        if (number == CommandArguments.NOT_A_NUMBER) {
             throw new DukeException("Must be integer", DukeExceptionType.NOT_INTEGER);
         }
+        return new DoneCommand((int) number - 1);
     }
 
     /**
@@ -54,18 +70,22 @@ public class DoneCommand extends Command{
      *
      * @param taskList The main task list of the application.
      * @param ui The main user interface of the application.
+     * @throws DukeException Thrown when there is no such task or it has already been done.
      * @throws IOException Thrown when the file update fails.
      */
     @Override
-    public String execute(TaskList taskList, Ui ui) throws IOException {
+    public String execute(TaskList taskList, Ui ui) throws DukeException, IOException {
         assert ui != null;
+        if (this.selection != null) {
+            List<Task> tasks = taskList.setDoneAllInList(this.selection.getIndexes(taskList));
+            return ui.printBulkDone(tasks);
+        }
         try {
             assert taskList != null;
 
             Task task = taskList.getTaskAt(index+1);
-            boolean isDoneBefore = task.setDone();
-            if (isDoneBefore) {
-                throw new IllegalArgumentException("Task has already been done");
+            if (task.getDoneStatus()) {
+                throw new DukeException("Task has already been done", DukeExceptionType.TASK_ALREADY_DONE);
             }
             taskList.setDoneInList(this.index+1);
 
@@ -74,9 +94,7 @@ public class DoneCommand extends Command{
             return ui.printInput(inst);
 
         } catch (IndexOutOfBoundsException error3) {
-            return ui.printOneLine(new DukeException("No such task", DukeExceptionType.MISSING_TASK).getMessage());
-        } catch (IllegalArgumentException error2) {
-            return ui.printOneLine(new DukeException(error2.getMessage(), DukeExceptionType.TASK_ALREADY_DONE).getMessage());
+            throw new DukeException("No such task", DukeExceptionType.MISSING_TASK);
         }
     }
 
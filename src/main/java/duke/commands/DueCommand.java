@@ -0,0 +1,77 @@
+package duke.commands;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import duke.core.Parser;
+import duke.core.TaskList;
+import duke.core.Ui;
+import duke.errors.DukeAssertions;
+import duke.errors.DukeException;
+import duke.errors.InvalidInputException;
+import duke.tasks.Task;
+
+
+/**
+ * Represents a command which contains an execute method that shows the pending tasks
+ * due or happening between two dates and times, in the form
+ * due between dd/MM/yyyy HHmm and dd/MM/yyyy HHmm
+ */
+public class DueCommand extends Command {
+
+    private static final String USAGE = "Please use: due between dd/mm/yyyy hhmm and dd/mm/yyyy hhmm";
+
+    private LocalDateTime start;
+    private LocalDateTime end;
+
+    /**
+     * Initialises the command which contains the range of dates and times to be searched
+     *
+     * @param start Earliest date and time to be included
+     * @param end Latest date and time to be included
+     */
+    private DueCommand(LocalDateTime start, LocalDateTime end) {
+        super(CommandType.COMMAND_DUE);
+        this.start = start;
+        this.end = end;
+        DukeAssertions.assertNotNull(start, end);
+    }
+
+    /**
+     * Service for creating a due command that checks that both dates and times are given
+     * and recognised
+     *
+     * @param arguments Words following the command word, required for creating a due command
+     * @throws DukeException Thrown when a date and time is not in dd/MM/yyyy HHmm format
+     * @throws IllegalArgumentException Thrown when the command is not in the expected form
+     */
+    public static DueCommand createDueIfValid(CommandArguments arguments)
+            throws DukeException, IllegalArgumentException {
+        if (arguments.countRemaining() != 6 || !arguments.nextEquals("between")) {
+            throw new InvalidInputException(USAGE);
+        }
+        String startText = arguments.next() + " " + arguments.next();
+        if (!arguments.nextEquals("and")) {
+            throw new InvalidInputException(USAGE);
+        }
+        LocalDateTime start = Parser.parseLocalDateTime(startText);
+        LocalDateTime end = Parser.parseLocalDateTime(arguments.next() + " " + arguments.next());
+        if (end.isBefore(start)) {
+            throw new InvalidInputException("The end of the range must not be before its start!!");
+        }
+        return new DueCommand(start, end);
+    }
+
+    /**
+     * Executes by finding the pending tasks in the range and prints them to the user, earliest first
+     *
+     * @param taskList The main task list of the application.
+     * @param ui The main user interface of the application.
+     */
+    @Override
+    public String execute(TaskList taskList, Ui ui) {
+        DukeAssertions.assertNotNull(taskList, ui);
+        List<Task> resultList = taskList.findDueBetween(this.start, this.end);
+        return ui.printFindResults(resultList);
+    }
+}
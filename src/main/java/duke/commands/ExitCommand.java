@@ -1,5 +1,7 @@
 package duke.commands;
 
+import java.io.IOException;
+
 import duke.core.TaskList;
 import duke.core.Ui;
 
@@ -16,14 +18,16 @@ public class ExitCommand extends Command {
     }
 
     /**
-     * Prints the exit message.
+     * Saves any pending changes and prints the exit message.
      *
      * @param taskList The main task list of the application.
      * @param ui The main user interface of the application.
+     * @throws IOException Thrown when saving the pending changes fails.
      */
     @Override
-    public String execute(TaskList taskList, Ui ui) {
+    public String execute(TaskList taskList, Ui ui) throws IOException {
         assert ui != null;
+        taskList.flush();
         return ui.printByeMessage();
     }
 
@@ -1,5 +1,6 @@
 package duke.commands;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import duke.core.TaskList;
@@ -13,47 +14,61 @@ import duke.tasks.Task;
 
 /**
  * Represents a command which contains an execute method that finds tasks with the matching keyword.
+ * A single keyword matches any part of a description, while several keywords are matched as
+ * whole words which must all appear in the description.
  */
 public class FindCommand extends Command {
 
-    private String keyword;
+    private List<String> keywords;
 
 
 
 
     /**
-     * Initialises the find command which contains the keyword
+     * Initialises the find command which contains the keywords
      * where the tasks will be searched against
      *
-     * @param keyword Keyword to be searched against
+     * @param keywords Keywords to be searched against
      */
-    private FindCommand(String keyword) {
+    private FindCommand(List<String> keywords) {
         super(CommandType.COMMAND_FIND_TASK);
-        this.keyword = keyword;
-        assert keyword != null;
+        this.keywords = keywords;
+        assert !keywords.isEmpty();
     }
 
     /**
-     * Service for creating a find command that checks for multiple keywords
-     * @param tokens User input split by space, required for creating a find command
-     * @throws DukeException Thrown when the parameters contains multiple keywords
+     * Service for creating a find command that checks that at least one keyword is given
+     * @param arguments Words following the command word, required for creating a find command
+     * @throws DukeException Thrown when the parameters do not contain any keyword
      */
-    public static FindCommand createFindCommandIfValid(String[] tokens) throws DukeException{
-        if (tokens.length > 2) {
-            throw new DukeException("Must be a single keyword", DukeExceptionType.NOT_SINGLE_WORD);
+    public static FindCommand createFindCommandIfValid(CommandArguments arguments) throws DukeException{
+        List<String> keywords = new ArrayList<>();
+        while (arguments.hasNext()) {
+            String keyword = arguments.next();
+            if (!keyword.isEmpty()) {
+                keywords.add(keyword);
+            }
         }
-        return new FindCommand(tokens[1]);
+        if (keywords.isEmpty()) {
+            throw new DukeException("Must have a keyword", DukeExceptionType.INVALID_COMMAND);
+        }
+        return new FindCommand(keywords);
     }
 
     /**
-     * Executes by storing all tasks with descriptions containing the keyword
-     * and prints to the user
+     * Executes by storing all tasks with descriptions containing the keyword, or all of the
+     * keywords as whole words when there are several, and prints to the user
      * @param taskList The main task list of the application.
      * @param ui The main user interface of the application.
      */
     public String execute(TaskList taskList, Ui ui) {
         DukeAssertions.assertNotNull(taskList, ui);
-        List<Task> resultList = taskList.findTasks(this.keyword);
+        List<Task> resultList;
+        if (this.keywords.size() == 1) {
+            resultList = taskList.findTasks(this.keywords.get(0));
+        } else {
+            resultList = taskList.findTasksWithWords(this.keywords);
+        }
         return ui.printFindResults(resultList);
     }
 
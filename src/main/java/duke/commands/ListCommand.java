@@ -4,22 +4,89 @@ package duke.commands;
 import duke.core.TaskList;
 import duke.core.Ui;
 import duke.errors.DukeAssertions;
+import duke.errors.InvalidInputException;
 
 
 /**
  * Represents a command which contains an execute method that lists the tasks in the task list.
+ * The tasks are listed a page at a time, either by page number, from a given task
+ * or following on from the last page shown.
  */
 public class ListCommand extends Command {
 
+    private static final int PAGE_SIZE = 50;
+    private static final String USAGE = "Please use: list, list PAGE, list next, list from TASK_NUMBER"
+            + " or list from TASK_NUMBER size COUNT";
+    private static final int NEXT_PAGE = 0;
+
+    private int from;
+    private int size;
+
     /**
-     * Initialises the list command
+     * Initialises the list command for the first page
      */
     public ListCommand(){
+        this(1, PAGE_SIZE);
+    }
+
+    /**
+     * Initialises the list command for the tasks from a given position
+     *
+     * @param from Position of the first task to be listed, from 1, or 0 to follow on from the last page
+     * @param size Largest number of tasks to be listed
+     */
+    private ListCommand(int from, int size) {
         super(CommandType.COMMAND_SHOW_LIST);
+        this.from = from;
+        this.size = size;
+        assert from >= 0 && size > 0;
+    }
+
+    /**
+     * Service for creating a list command in one of the forms list, list PAGE, list next,
+     * list from TASK_NUMBER and list from TASK_NUMBER size COUNT.
+     *
+     * @param arguments Words following the command word, required for creating a list command
+     * @return List command for the requested page
+     * @throws IllegalArgumentException Thrown when the arguments are not in one of these forms
+     */
+    public static ListCommand createListCommand(CommandArguments arguments) throws IllegalArgumentException {
+        int numArguments = arguments.countRemaining();
+        if (numArguments == 0) {
+            return new ListCommand();
+        }
+        if (numArguments == 1) {
+            String argument = arguments.next();
+            if (argument.equals("next")) {
+                return new ListCommand(NEXT_PAGE, PAGE_SIZE);
+            }
+            int page = parsePositive(argument);
+            if (page > 0 && page <= Integer.MAX_VALUE / PAGE_SIZE) {
+                return new ListCommand((page - 1) * PAGE_SIZE + 1, PAGE_SIZE);
+            }
+        }
+        if ((numArguments == 2 || numArguments == 4) && arguments.nextEquals("from")) {
+            int from = parsePositive(arguments.next());
+            boolean hasSize = numArguments == 4;
+            if (hasSize && !arguments.nextEquals("size")) {
+                throw new InvalidInputException(USAGE);
+            }
+            int size = hasSize ? parsePositive(arguments.next()) : PAGE_SIZE;
+            if (from > 0 && size > 0) {
+                return new ListCommand(from, size);
+            }
+        }
+        throw new InvalidInputException(USAGE);
+    }
+
+    //helper method to read a positive number, or 0 if the word is not one
+    private static int parsePositive(String word) {
+        long number = CommandArguments.parseNumber(word, 0, word.length());
+        return number == CommandArguments.NOT_A_NUMBER ? 0 : (int) Math.max(0, number);
     }
 
     /**
-     * Lists all the tasks in the task list and prints them out.
+     * Lists a page of the tasks in the task list and prints them out.
      *
      * @param taskList The main task list of the application.
      * @param ui The main user interface of the application.
@@ -27,6 +94,9 @@ public class ListCommand extends Command {
     @Override
     public String execute(TaskList taskList, Ui ui) {
         DukeAssertions.assertNotNull(taskList, ui);
-        return ui.printNumberList(taskList);
+        if (this.from == NEXT_PAGE) {
+            return ui.printNextTaskPage(taskList, this.size);
+        }
+        return ui.printTaskPage(taskList, this.from, this.size);
     }
 }
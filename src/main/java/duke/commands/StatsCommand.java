@@ -0,0 +1,30 @@
+package duke.commands;
+import duke.core.TaskList;
+import duke.core.Ui;
+import duke.errors.DukeAssertions;
+import duke.metrics.CommandMetrics;
+
+/**
+ * Represents a command which contains an execute method that shows how long commands have taken.
+ */
+public class StatsCommand extends Command {
+
+    /**
+     * Initialises the stats command
+     */
+    public StatsCommand() {
+        super(CommandType.COMMAND_STATS);
+    }
+
+    /**
+     * Shows the number of times each type of command was run and how long its phases took
+     *
+     * @param taskList The main task list of the application.
+     * @param ui The main user interface of the application.
+     */
+    @Override
+    public String execute(TaskList taskList, Ui ui) {
+        DukeAssertions.assertNotNull(taskList, ui);
+        return ui.printInput(CommandMetrics.report());
+    }
+}
@@ -0,0 +1,97 @@
+package duke.commands;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import duke.core.TaskList;
+import duke.errors.DukeException;
+import duke.errors.DukeExceptionType;
+
+import duke.tasks.Task;
+
+
+/**
+ * Represents the tasks chosen by a done or delete command, given either as task numbers and ranges
+ * of task numbers separated by commas (e.g. 1,4,9 or 10-500) or as every task that is done.
+ */
+class TaskSelection {
+
+    private static final String DONE_TASKS = "done";
+
+    private List<int[]> ranges;
+    private boolean isDoneTasks;
+
+    /**
+     * Initialises the selection of the given ranges, or of the tasks that are done
+     *
+     * @param ranges First and last task number of each range, both included
+     * @param isDoneTasks True to select every task that is done instead
+     */
+    private TaskSelection(List<int[]> ranges, boolean isDoneTasks) {
+        this.ranges = ranges;
+        this.isDoneTasks = isDoneTasks;
+    }
+
+    /**
+     * Checks if the text chooses more than one task number, or every task that is done
+     *
+     * @param text Text following the command word
+     * @return True if the text is a selection rather than a single task number
+     */
+    static boolean isSelection(String text) {
+        return text.equals(DONE_TASKS) || text.indexOf(',') >= 0 || text.indexOf('-', 1) > 0;
+    }
+
+    /**
+     * Service for creating a selection that checks the formatting of every task number and range
+     *
+     * @param text Text following the command word, such as 1,4,9 or 10-500 or done
+     * @param isDoneAllowed Whether every task that is done can be selected
+     * @return Selection of the tasks
+     * @throws DukeException Thrown when a task number or range is not made of positive integers
+     */
+    static TaskSelection createSelectionIfValid(String text, boolean isDoneAllowed) throws DukeException {
+        if (isDoneAllowed && text.equals(DONE_TASKS)) {
+            return new TaskSelection(new ArrayList<>(), true);
+        }
+        List<int[]> ranges = new ArrayList<>();
+        for (String part : text.split(",")) {
+            int dash = part.indexOf('-', 1);
+            long first = CommandArguments.parseNumber(part, 0, dash < 0 ? part.length() : dash);
+            long last = dash < 0 ? first : CommandArguments.parseNumber(part, dash + 1, part.length());
+            if (first == CommandArguments.NOT_A_NUMBER || last == CommandArguments.NOT_A_NUMBER
+                    || first <= 0 || last < first) {
+                throw new DukeException("Must be integer", DukeExceptionType.NOT_INTEGER);
+            }
+            ranges.add(new int[]{(int) first, (int) last});
+        }
+        return new TaskSelection(ranges, false);
+    }
+
+    /**
+     * Returns the indexes of the selected tasks in the task list
+     *
+     * @param taskList The main task list of the application.
+     * @return Indexes of the selected tasks, in increasing order without repeats
+     * @throws DukeException Thrown when a selected task number is not in the list
+     */
+    int[] getIndexes(TaskList taskList) throws DukeException {
+        List<Task> tasks = taskList.getList();
+        BitSet selected = new BitSet(tasks.size() + 1);
+        if (isDoneTasks) {
+            for (int i = 0; i < tasks.size(); i++) {
+                if (tasks.get(i).getDoneStatus()) {
+                    selected.set(i + 1);
+                }
+            }
+        }
+        for (int[] range : ranges) {
+            if (range[1] > tasks.size()) {
+                throw new DukeException("No such task", DukeExceptionType.MISSING_TASK);
+            }
+            selected.set(range[0], range[1] + 1);
+        }
+        return selected.stream().toArray();
+    }
+}
@@ -0,0 +1,68 @@
+package duke.commands;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import duke.core.TaskList;
+import duke.core.Ui;
+import duke.errors.DukeAssertions;
+import duke.errors.DukeException;
+import duke.errors.DukeExceptionType;
+import duke.tasks.Task;
+
+
+/**
+ * Represents a command which contains an execute method that shows the next pending tasks
+ * with a date and time, starting from the current date and time.
+ */
+public class UpcomingCommand extends Command {
+
+    private static final int DEFAULT_COUNT = 5;
+
+    private int count;
+
+    /**
+     * Initialises the command which contains the number of tasks to be shown
+     *
+     * @param count Largest number of tasks to be shown
+     */
+    private UpcomingCommand(int count) {
+        super(CommandType.COMMAND_UPCOMING);
+        this.count = count;
+        assert count > 0;
+    }
+
+    /**
+     * Service for creating an upcoming command that checks the number of tasks to be shown,
+     * which defaults to 5 when it is not given
+     *
+     * @param arguments Words following the command word, required for creating an upcoming command
+     * @throws DukeException Thrown when the number of tasks is not a positive integer
+     */
+    public static UpcomingCommand createUpcomingIfValid(CommandArguments arguments) throws DukeException {
+        if (!arguments.hasNext()) {
+            return new UpcomingCommand(DEFAULT_COUNT);
+        }
+        long count = arguments.nextNumber();
+        if (count == CommandArguments.NOT_A_NUMBER) {
+            throw new DukeException("Must be integer", DukeExceptionType.NOT_INTEGER);
+        }
+        if (count <= 0) {
+            throw new DukeException("Must be positive", DukeExceptionType.NOT_INTEGER);
+        }
+        return new UpcomingCommand((int) count);
+    }
+
+    /**
+     * Executes by finding the earliest pending tasks from now and prints them to the user
+     *
+     * @param taskList The main task list of the application.
+     * @param ui The main user interface of the application.
+     */
+    @Override
+    public String execute(TaskList taskList, Ui ui) {
+        DukeAssertions.assertNotNull(taskList, ui);
+        List<Task> resultList = taskList.findUpcoming(LocalDateTime.now(), this.count);
+        return ui.printFindResults(resultList);
+    }
+}
@@ -0,0 +1,294 @@
+package duke.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.tasks.Task;
+import duke.tasks.ToDo;
+import duke.tasks.Deadline;
+import duke.tasks.Event;
+
+import duke.errors.DukeException;
+import duke.errors.DukeExceptionType;
+
+
+/**
+ * Represents the binary format of the data file. The file starts with a header holding a magic
+ * number, the version of the format and the journal checkpoint, followed by one record per task:
+ * a type byte, a flag byte holding the done status, the ID of the task and its length-prefixed
+ * UTF-8 fields. Numbers are written as variable-length integers to keep the file small.
+ * Since version 2, a recognised date and time follows the date text as its epoch second,
+ * which is flagged in the flag byte.
+ */
+class BinaryTaskFormat {
+
+    static final int MAGIC = 0x44554B42;
+    static final byte VERSION = 2;
+
+    private static final byte TODO_TYPE = 0;
+    private static final byte DEADLINE_TYPE = 1;
+    private static final byte EVENT_TYPE = 2;
+    private static final byte DONE_FLAG = 1;
+    private static final byte DATE_TIME_FLAG = 2;
+
+    /**
+     * Checks if the file starts with the magic number of the binary format
+     *
+     * @param file File to be checked
+     * @return True if the file is in the binary format, false otherwise
+     * @throws IOException Thrown when the file cannot be read.
+     */
+    static boolean isBinaryFile(File file) throws IOException {
+        if (file.length() < Integer.BYTES) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            return in.readInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Reads the sequence number of the last journal record contained in the file.
+     *
+     * @param file File in the binary format.
+     * @return The checkpoint stored in the header.
+     * @throws IOException Thrown when the file cannot be read.
+     * @throws DukeException Thrown when the header is not recognised.
+     */
+    static long readCheckpoint(File file) throws IOException, DukeException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readInt() != MAGIC || !isKnownVersion(in.readByte())) {
+                throw new DukeException("Unknown binary format", DukeExceptionType.CORRUPTED_FILE);
+            }
+            return in.readLong();
+        }
+    }
+
+    /**
+     * Reads every task in the file.
+     *
+     * @param file File in the binary format.
+     * @return An ArrayList of tasks, in the order they appear in the file.
+     * @throws IOException Thrown when the file cannot be read.
+     * @throws DukeException Thrown when the file is cut short or holds an unknown record.
+     */
+    static ArrayList<Task> readTasks(File file) throws IOException, DukeException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        try {
+            if (buffer.getInt() != MAGIC || !isKnownVersion(buffer.get())) {
+                throw new DukeException("Unknown binary format", DukeExceptionType.CORRUPTED_FILE);
+            }
+            buffer.getLong();
+            ArrayList<Task> taskList = new ArrayList<>();
+            while (buffer.hasRemaining()) {
+                taskList.add(readTask(buffer));
+            }
+            return taskList;
+        } catch (BufferUnderflowException e) {
+            throw new DukeException("Binary file is cut short", DukeExceptionType.CORRUPTED_FILE);
+        }
+    }
+
+    //helper method to check that the file was written by this or an older version of the format
+    private static boolean isKnownVersion(byte version) {
+        return version >= 1 && version <= VERSION;
+    }
+
+    /**
+     * Reads the record of a single task, starting at the position of the buffer.
+     *
+     * @param buffer Buffer holding the record, which is left positioned after it.
+     * @return The task in the record.
+     * @throws DukeException Thrown when the record is of an unknown type.
+     */
+    static Task readTask(ByteBuffer buffer) throws DukeException {
+        byte type = buffer.get();
+        byte flags = buffer.get();
+        int taskID = readVarInt(buffer);
+        String description = readString(buffer);
+        Task task;
+        switch (type) {
+            case TODO_TYPE:
+                task = new ToDo(description);
+                break;
+            case DEADLINE_TYPE:
+                task = new Deadline(description, readString(buffer), readDateTime(buffer, flags));
+                break;
+            case EVENT_TYPE:
+                task = new Event(description, readString(buffer), readDateTime(buffer, flags));
+                break;
+            default:
+                throw new DukeException("Unknown task detected? Something is wrong.",
+                        DukeExceptionType.CORRUPTED_FILE);
+        }
+        if ((flags & DONE_FLAG) != 0) {
+            task.setDone();
+        }
+        if (taskID > 0) {
+            task.setID(taskID);
+        }
+        return task;
+    }
+
+    /**
+     * Writes the tasks to a stream, which is flushed but left open.
+     *
+     * @param stream Stream to the file being written, which should be buffered.
+     * @param taskList Tasks to be written.
+     * @param checkpoint Sequence number of the last journal record contained in the tasks.
+     * @param recordOffsets Filled with the position where the record of each task starts, or null
+     * @throws IOException Thrown when writing to file fails.
+     */
+    static void writeTasks(OutputStream stream, List<Task> taskList, long checkpoint, long[] recordOffsets)
+            throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(checkpoint);
+        for (int i = 0; i < taskList.size(); i++) {
+            if (recordOffsets != null) {
+                recordOffsets[i] = out.size();
+            }
+            writeTask(out, taskList.get(i));
+        }
+        out.flush();
+    }
+
+    /**
+     * Returns the bytes the record of a task starts with: its type, its flag byte and its ID.
+     * The flag byte, which holds the done status, comes second.
+     *
+     * @param task Task whose record is formatted.
+     * @param isDone Done status to be held by the flag byte.
+     * @return Bytes at the start of the record.
+     */
+    static byte[] formatRecordStart(Task task, boolean isDone) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            writeRecordStart(new DataOutputStream(bytes), task, isDone);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes the record of a single task.
+     *
+     * @param out Stream the record is written to.
+     * @param task Task to be written.
+     * @throws IOException Thrown when writing to the stream fails.
+     */
+    static void writeTask(DataOutputStream out, Task task) throws IOException {
+        writeRecordStart(out, task, task.getDoneStatus());
+        writeString(out, task.getDescription());
+        switch (task.getType()) {
+            case DEADLINE_TASK:
+                writeString(out, ((Deadline) task).getDate());
+                break;
+            case EVENT_TASK:
+                writeString(out, ((Event) task).getDate());
+                break;
+            default:
+        }
+        LocalDateTime dateTime = task.getDateTime();
+        if (dateTime != null) {
+            out.writeLong(Storage.toEpochSecond(dateTime));
+        }
+    }
+
+    //helper method to write the type, the flag byte and the ID that start the record of a task
+    private static void writeRecordStart(DataOutputStream out, Task task, boolean isDone) throws IOException {
+        switch (task.getType()) {
+            case TODO_TASK:
+                out.writeByte(TODO_TYPE);
+                break;
+            case DEADLINE_TASK:
+                out.writeByte(DEADLINE_TYPE);
+                break;
+            case EVENT_TASK:
+                out.writeByte(EVENT_TYPE);
+                break;
+            default:
+        }
+        out.writeByte((isDone ? DONE_FLAG : 0) | (task.getDateTime() != null ? DATE_TIME_FLAG : 0));
+        writeVarInt(out, task.getID());
+    }
+
+    //helper method to read the epoch second written after the date text, if the flags say there is one
+    private static LocalDateTime readDateTime(ByteBuffer buffer, byte flags) {
+        return (flags & DATE_TIME_FLAG) != 0 ? Storage.fromEpochSecond(buffer.getLong()) : null;
+    }
+
+    /**
+     * Writes a string as the length of its UTF-8 bytes followed by the bytes themselves.
+     *
+     * @param out Stream the string is written to.
+     * @param text String to be written.
+     * @throws IOException Thrown when writing to the stream fails.
+     */
+    static void writeString(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by writeString. Buffers without an array behind them, such as
+     * direct buffers, have the bytes of the string copied out first.
+     *
+     * @param buffer Buffer holding the string, which is left positioned after it.
+     * @return The string read.
+     * @throws BufferUnderflowException Thrown when the buffer ends before the string does.
+     */
+    static String readString(ByteBuffer buffer) {
+        int length = readVarInt(buffer);
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (!buffer.hasArray()) {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        String text = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return text;
+    }
+
+    //helper method to write a non-negative number in as few bytes as needed, 7 bits at a time
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    //helper method to read a number written by writeVarInt
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte part = buffer.get();
+            value |= (part & 0x7F) << shift;
+            if ((part & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new BufferUnderflowException();
+    }
+}
@@ -0,0 +1,73 @@
+package duke.core;
+
+/**
+ * Represents the words that start each command, along with the message shown when a command
+ * that needs more words is given none.
+ * The words are looked up by their first letter and length, which no two of them share,
+ * so finding the word at the start of the input takes a single comparison.
+ */
+enum CommandWord {
+    BYE("bye", null),
+    BATCH("batch", "OOPS!!! %s command requires commands separated by ';'."),
+    LIST("list", null),
+    HELP("help", null),
+    STATS("stats", null),
+    UPCOMING("upcoming", null),
+    DONE("done", "OOPS!!! %s command requires integer."),
+    DELETE("delete", "OOPS!!! %s command requires integer."),
+    FIND("find", "OOPS!!! %s command requires keyword input."),
+    DUE("due", null),
+    TODO("todo", "OOPS!!! The description of a %s cannot be empty."),
+    DEADLINE("deadline", "OOPS!!! The description of a %s cannot be empty."),
+    EVENT("event", "OOPS!!! The description of a %s cannot be empty.");
+
+    private static final int MAX_LENGTH = 8;
+    private static final CommandWord[][] table = new CommandWord['z' - 'a' + 1][MAX_LENGTH + 1];
+
+    static {
+        for (CommandWord commandWord : values()) {
+            String word = commandWord.word;
+            assert word.length() <= MAX_LENGTH;
+            assert table[word.charAt(0) - 'a'][word.length()] == null : "Command words must not share a slot";
+            table[word.charAt(0) - 'a'][word.length()] = commandWord;
+        }
+    }
+
+    private final String word;
+    private final String missingArgumentsMessage;
+
+    CommandWord(String word, String missingArgumentsMessage) {
+        this.word = word;
+        this.missingArgumentsMessage = missingArgumentsMessage == null
+                ? null
+                : String.format(missingArgumentsMessage, word);
+    }
+
+    /**
+     * Finds the command word at the start of the input
+     *
+     * @param input Line of input
+     * @param length Length of the first word of the input
+     * @return Command word, or null if the first word is not one
+     */
+    static CommandWord find(String input, int length) {
+        if (length == 0 || length > MAX_LENGTH) {
+            return null;
+        }
+        int letter = input.charAt(0) - 'a';
+        if (letter < 0 || letter >= table.length) {
+            return null;
+        }
+        CommandWord commandWord = table[letter][length];
+        return commandWord != null && input.startsWith(commandWord.word) ? commandWord : null;
+    }
+
+    /**
+     * getter for the message shown when the command is given no other words
+     *
+     * @return message naming the word, or null if the command needs no other words
+     */
+    String getMissingArgumentsMessage() {
+        return missingArgumentsMessage;
+    }
+}
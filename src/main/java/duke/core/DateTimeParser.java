@@ -0,0 +1,188 @@
+package duke.core;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import duke.errors.DukeException;
+import duke.errors.DukeExceptionType;
+
+
+/**
+ * Represents the parsing and formatting of the dd/MM/yyyy HHmm dates entered by the user.
+ * Input of exactly that shape with an unambiguous day is read digit by digit, while anything else
+ * is left to a formatter created once, so that both give the same result.
+ * The readable text of recently formatted dates is kept, as the same dates tend to be formatted
+ * over and over when a list is shown.
+ */
+class DateTimeParser {
+
+    static final String PATTERN = "dd/MM/yyyy HHmm";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(PATTERN);
+    private static final int RENDER_CACHE_SIZE = 256;
+    private static final String[] MONTH_NAMES = new String[Month.values().length + 1];
+    private static final Map<LocalDateTime, String> renderCache =
+            new LinkedHashMap<LocalDateTime, String>(RENDER_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<LocalDateTime, String> eldest) {
+                    return size() > RENDER_CACHE_SIZE;
+                }
+            };
+
+    static {
+        for (Month month : Month.values()) {
+            MONTH_NAMES[month.getValue()] = month.name();
+        }
+    }
+
+    /**
+     * Parses a string in dd/MM/yyyy HHmm format
+     *
+     * @param dateTimeString String to be parsed
+     * @return The date and time in the string
+     * @throws DukeException Thrown when the input is not in dd/MM/yyyy HHmm format
+     */
+    static LocalDateTime parse(String dateTimeString) throws DukeException {
+        assert dateTimeString != null;
+        LocalDateTime dateTime = parseFast(dateTimeString);
+        if (dateTime != null) {
+            return dateTime;
+        }
+        if (!isResolvable(dateTimeString)) {
+            throw new DukeException(dateTimeString + " is not in valid dd/MM/yyyy HHmm format.",
+                    DukeExceptionType.INVALID_DATE_TIME_FORMAT);
+        }
+        try {
+            return LocalDateTime.parse(dateTimeString, FORMATTER);
+        } catch (DateTimeParseException exception) {
+            throw new DukeException(dateTimeString + " is not in valid dd/MM/yyyy HHmm format.",
+                    DukeExceptionType.INVALID_DATE_TIME_FORMAT);
+        }
+    }
+
+    //helper method to check if the text is laid out as the formatter expects, with values it can resolve,
+    //which is found without throwing. The formatter is left to decide on the few values near the edges,
+    //such as the hour 24 or the year 0
+    static boolean isResolvable(String text) {
+        ParsePosition position = new ParsePosition(0);
+        TemporalAccessor fields = FORMATTER.parseUnresolved(text, position);
+        return fields != null && position.getIndex() == text.length()
+                && isBetween(fields, ChronoField.MONTH_OF_YEAR, 1, 12)
+                && isBetween(fields, ChronoField.DAY_OF_MONTH, 1, 31)
+                && isBetween(fields, ChronoField.HOUR_OF_DAY, 0, 24)
+                && isBetween(fields, ChronoField.MINUTE_OF_HOUR, 0, 59);
+    }
+
+    //helper method to check if a parsed field is within the given range
+    private static boolean isBetween(TemporalAccessor fields, ChronoField field, long min, long max) {
+        long value = fields.getLong(field);
+        return value >= min && value <= max;
+    }
+
+    //helper method to read the common shape without the formatter. Days past the 28th are left
+    //to the formatter, which decides how a day that is not in the month is resolved
+    static LocalDateTime parseFast(String text) {
+        if (text.length() != PATTERN.length() || text.charAt(2) != '/' || text.charAt(5) != '/'
+                || text.charAt(10) != ' ') {
+            return null;
+        }
+        int day = readDigits(text, 0, 2);
+        int month = readDigits(text, 3, 5);
+        int year = readDigits(text, 6, 10);
+        int hour = readDigits(text, 11, 13);
+        int minute = readDigits(text, 13, 15);
+        if (day < 1 || day > 28 || month < 1 || month > 12 || year < 1 || hour < 0 || hour > 23
+                || minute < 0 || minute > 59) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    //helper method to read the digits from start to end as a number, or -1 if any is not a digit
+    private static int readDigits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char digit = text.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+            value = value * 10 + (digit - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Converts a date and time into a more readable format
+     * eg. 11/12/1111 1111 -> 11th of DECEMBER 1111, 11:11am
+     *
+     * @param dateTime Date and time to be converted
+     * @return The formatted date and time
+     */
+    static String format(LocalDateTime dateTime) {
+        assert dateTime != null;
+        synchronized (renderCache) {
+            String text = renderCache.get(dateTime);
+            if (text == null) {
+                text = render(dateTime);
+                renderCache.put(dateTime, text);
+            }
+            return text;
+        }
+    }
+
+    //@@author qweiping31415-reused
+    //Reused from https://github.com/briyanii/duke/blob/master/src/main/java/duke/command/Parser.java
+    // with minor modifications
+    //helper method to build the readable text of a date and time
+    static String render(LocalDateTime dateTime) {
+        int day = dateTime.getDayOfMonth();
+        int hour = dateTime.getHour();
+        int minute = dateTime.getMinute();
+
+        StringBuilder text = new StringBuilder(32);
+        text.append(day).append(getDaySuffix(day));
+        text.append(" of ");
+        text.append(MONTH_NAMES[dateTime.getMonthValue()]);
+        text.append(' ');
+        text.append(dateTime.getYear());
+        text.append(", ");
+        text.append(hour > 12 ? hour - 12 : hour == 0 ? 12 : hour);
+        if (minute != 0) {
+            text.append(':');
+            text.append(minute);
+        }
+        text.append(hour < 12 ? "am" : "pm");
+        return text.toString();
+    }
+
+    //helper method to find the suffix of a day
+    private static String getDaySuffix(int day) {
+        int remainderHundred = day % 100;
+        if (remainderHundred > 9 && remainderHundred < 21) {
+            return "th";
+        }
+        switch (day % 10) {
+            case 1:
+                return "st";
+            case 2:
+                return "nd";
+            case 3:
+                return "rd";
+            default:
+                return "th";
+        }
+    }
+    //@@author
+}
@@ -0,0 +1,333 @@
+package duke.core;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import duke.tasks.Task;
+
+import duke.errors.DukeException;
+import duke.metrics.StorageWriteEvent;
+
+
+/**
+ * Represents the append-only journal of the storage. Every change made to the task list is appended
+ * to the journal as one record tagged with an increasing sequence number, so that a change costs the
+ * same regardless of the size of the list. Records newer than the last snapshot of the data file
+ * are replayed on top of it when the application starts.
+ * Records are pushed to the file one at a time, unless the journal is buffered for a batch of changes.
+ */
+class Journal {
+
+    private static final String ADD_RECORD = "A";
+    private static final String DONE_RECORD = "D";
+    private static final String DELETE_RECORD = "X";
+    private static final String SEPARATOR = " / ";
+
+    private File file;
+    private File compactingFile;
+    private Writer writer;
+    private volatile FileChannel channel;
+    private long lastSequence;
+    private int numRecords;
+    private boolean isBuffered;
+
+    /**
+     * Initialises the journal kept in the given file
+     *
+     * @param file File which holds the journal records
+     */
+    Journal(File file) {
+        this.file = file;
+        this.compactingFile = new File(file.getPath() + ".compacting");
+    }
+
+    /**
+     * Appends a record of a task being added to the end of the list.
+     *
+     * @param taskLine The task, formatted the same way as in the data file.
+     * @throws IOException Thrown when writing to the journal fails.
+     */
+    void appendAdd(String taskLine) throws IOException {
+        append(ADD_RECORD, taskLine);
+    }
+
+    /**
+     * Appends a record of a task being marked as done.
+     *
+     * @param taskID ID of the task.
+     * @throws IOException Thrown when writing to the journal fails.
+     */
+    void appendDone(int taskID) throws IOException {
+        append(DONE_RECORD, String.valueOf(taskID));
+    }
+
+    /**
+     * Appends a record of a task being removed.
+     *
+     * @param taskID ID of the task.
+     * @throws IOException Thrown when writing to the journal fails.
+     */
+    void appendDelete(int taskID) throws IOException {
+        append(DELETE_RECORD, String.valueOf(taskID));
+    }
+
+    //helper method to write a single record and push it to the file straight away
+    private void append(String type, String payload) throws IOException {
+        if (writer == null) {
+            FileOutputStream stream = new FileOutputStream(file, true);
+            channel = stream.getChannel();
+            writer = new BufferedWriter(new OutputStreamWriter(stream, Charset.defaultCharset()));
+        }
+        StorageWriteEvent event = StorageWriteEvent.startWrite();
+        lastSequence++;
+        String record = lastSequence + SEPARATOR + type + SEPARATOR + payload + System.lineSeparator();
+        writer.write(record);
+        if (!isBuffered) {
+            writer.flush();
+        }
+        numRecords++;
+        event.finishRecord(file, record);
+    }
+
+    /**
+     * Sets whether records are kept in memory until the journal stops being buffered, instead of
+     * being pushed to the file one at a time. The buffered records are pushed when buffering stops.
+     *
+     * @param isBuffered True to keep records in memory, false to push them straight away
+     * @throws IOException Thrown when writing to the journal fails.
+     */
+    void setBuffered(boolean isBuffered) throws IOException {
+        this.isBuffered = isBuffered;
+        if (!isBuffered && writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Forces the records pushed to the file so far onto the disk. Records still kept in memory
+     * for a batch are not included. Can be called from any thread.
+     *
+     * @throws IOException Thrown when forcing the journal fails.
+     */
+    void force() throws IOException {
+        FileChannel channel = this.channel;
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+        } catch (ClosedChannelException e) {
+            //the journal was rotated or closed in the meantime, leaving nothing to force
+        }
+    }
+
+    /**
+     * Returns the number of records appended since the journal was last rotated
+     *
+     * @return Number of records in the current journal file
+     */
+    int getNumRecords() {
+        return numRecords;
+    }
+
+    /**
+     * Returns the sequence number of the last record appended or replayed
+     *
+     * @return Sequence number of the last record, or the checkpoint replayed from if there was none
+     */
+    long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Checks if the records of an earlier rotation have yet to be folded into the data file
+     *
+     * @return True if a compaction is still pending, false otherwise
+     */
+    boolean hasPendingCompaction() {
+        return compactingFile.exists();
+    }
+
+    /**
+     * Moves the current journal file aside so that new records go into a fresh file while
+     * the old records are being compacted into a snapshot.
+     *
+     * @return Sequence number of the last record covered by the snapshot.
+     * @throws IOException Thrown when the journal file cannot be moved.
+     */
+    long rotate() throws IOException {
+        close();
+        if (file.exists()) {
+            Files.move(file.toPath(), compactingFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        }
+        numRecords = 0;
+        return lastSequence;
+    }
+
+    /**
+     * Removes the journal records which have been folded into a snapshot.
+     */
+    void finishCompaction() {
+        compactingFile.delete();
+    }
+
+    /**
+     * Checks if there are any journal records on disk
+     *
+     * @return True if either journal file exists, false otherwise
+     */
+    boolean exists() {
+        return file.exists() || compactingFile.exists();
+    }
+
+    /**
+     * Replays the records newer than the checkpoint onto the tasks loaded from the data file.
+     * A record cut short by a crash ends the replay, as nothing can have been written after it.
+     * New records are numbered on from the last record replayed, or from the checkpoint if there is none,
+     * so that they stay newer than the checkpoint when there was no journal left to replay.
+     *
+     * @param taskList Tasks loaded from the data file.
+     * @param checkpoint Sequence number of the last record contained in the data file.
+     * @param replayedTasks Filled with every task added, marked as done or removed by a record, or null
+     * @return True if every record was intact, false if a torn record was found.
+     * @throws IOException Thrown when the journal cannot be read.
+     * @throws DukeException Thrown when a replayed task cannot be recognised.
+     */
+    boolean replay(ArrayList<Task> taskList, long checkpoint, List<Task> replayedTasks)
+            throws IOException, DukeException {
+        lastSequence = checkpoint;
+        numRecords = 0;
+        if (!exists()) {
+            return true;
+        }
+        LinkedHashMap<Integer, Task> tasksByID = new LinkedHashMap<>();
+        for (Task task : taskList) {
+            tasksByID.put(task.getID(), task);
+        }
+        boolean isIntact = replayFile(compactingFile, tasksByID, checkpoint, replayedTasks);
+        if (isIntact) {
+            isIntact = replayFile(file, tasksByID, checkpoint, replayedTasks);
+        }
+        taskList.clear();
+        taskList.addAll(tasksByID.values());
+        return isIntact;
+    }
+
+    //helper method to apply the records of a single journal file, in order
+    private boolean replayFile(File journalFile, LinkedHashMap<Integer, Task> tasksByID, long checkpoint,
+            List<Task> replayedTasks) throws IOException, DukeException {
+        if (!journalFile.exists()) {
+            return true;
+        }
+        String content = new String(Files.readAllBytes(journalFile.toPath()), Charset.defaultCharset());
+        int start = 0;
+        while (start < content.length()) {
+            int end = content.indexOf('\n', start);
+            if (end < 0) {
+                return false;
+            }
+            int lineEnd = end > start && content.charAt(end - 1) == '\r' ? end - 1 : end;
+            String record = content.substring(start, lineEnd);
+            start = end + 1;
+            if (record.isEmpty()) {
+                continue;
+            }
+            if (!applyRecord(record, tasksByID, checkpoint, replayedTasks)) {
+                return false;
+            }
+            if (journalFile == file) {
+                numRecords++;
+            }
+        }
+        return true;
+    }
+
+    //helper method to apply one record, returning false if the record is malformed.
+    //The task the record changed is noted when asked to, as well as any task replaced by an added one
+    private boolean applyRecord(String record, LinkedHashMap<Integer, Task> tasksByID, long checkpoint,
+            List<Task> replayedTasks) throws DukeException {
+        int typeStart = record.indexOf(SEPARATOR);
+        int payloadStart = typeStart < 0 ? -1 : record.indexOf(SEPARATOR, typeStart + SEPARATOR.length());
+        if (payloadStart < 0) {
+            return false;
+        }
+        try {
+            long sequence = Long.parseLong(record.substring(0, typeStart));
+            String type = record.substring(typeStart + SEPARATOR.length(), payloadStart);
+            String payload = record.substring(payloadStart + SEPARATOR.length());
+            lastSequence = Math.max(lastSequence, sequence);
+            if (sequence <= checkpoint) {
+                return true;
+            }
+            Task task;
+            switch (type) {
+                case ADD_RECORD:
+                    task = Storage.formatFileToTask(payload);
+                    Task replacedTask = tasksByID.put(task.getID(), task);
+                    if (replacedTask != null && replayedTasks != null) {
+                        replayedTasks.add(replacedTask);
+                    }
+                    break;
+                case DONE_RECORD:
+                    task = tasksByID.get(Integer.parseInt(payload));
+                    if (task == null) {
+                        return false;
+                    }
+                    task.setDone();
+                    break;
+                case DELETE_RECORD:
+                    task = tasksByID.remove(Integer.parseInt(payload));
+                    if (task == null) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+            if (replayedTasks != null) {
+                replayedTasks.add(task);
+            }
+            return true;
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Deletes every journal file, once their records are no longer needed.
+     */
+    void discard() {
+        close();
+        file.delete();
+        compactingFile.delete();
+        numRecords = 0;
+    }
+
+    /**
+     * Closes the journal file, if it was opened for appending.
+     */
+    void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        writer = null;
+        channel = null;
+    }
+}
@@ -0,0 +1,162 @@
+package duke.core;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import duke.tasks.Task;
+
+
+/**
+ * Represents an inverted index from each word in the task descriptions to the IDs of the tasks
+ * whose description contains that word. The index is updated as tasks are added and removed, so
+ * that a query for whole words only looks at the tasks containing them.
+ * The index can be written out with the image of the task list and read back without
+ * going through the tasks again.
+ */
+class KeywordIndex {
+
+    private HashMap<String, PostingList> postings;
+
+    /**
+     * Initialises an empty keyword index
+     */
+    KeywordIndex() {
+        this.postings = new HashMap<>();
+    }
+
+    /**
+     * Reads an index written by writeTo
+     *
+     * @param buffer Buffer holding the index, which is left positioned after it
+     * @return The index read
+     * @throws BufferUnderflowException Thrown when the buffer ends before the index does
+     */
+    static KeywordIndex readFrom(ByteBuffer buffer) {
+        int numWords = buffer.getInt();
+        KeywordIndex index = new KeywordIndex();
+        index.postings = new HashMap<>(Math.max(numWords, 0) * 4 / 3 + 1);
+        for (int i = 0; i < numWords; i++) {
+            String word = BinaryTaskFormat.readString(buffer);
+            index.postings.put(word, PostingList.readFrom(buffer));
+        }
+        return index;
+    }
+
+    /**
+     * Writes the number of words in the index, followed by each word and its posting list
+     *
+     * @param out Stream the index is written to
+     * @throws IOException Thrown when writing to the stream fails
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(postings.size());
+        for (Map.Entry<String, PostingList> posting : postings.entrySet()) {
+            BinaryTaskFormat.writeString(out, posting.getKey());
+            posting.getValue().writeTo(out);
+        }
+    }
+
+    /**
+     * Adds every word in the description of the task to the index
+     *
+     * @param task Task to be indexed
+     */
+    void addTask(Task task) {
+        for (String word : splitIntoWords(task.getDescription())) {
+            postings.computeIfAbsent(word, key -> new PostingList()).add(task.getID());
+        }
+    }
+
+    /**
+     * Removes the task from the posting list of every word in its description
+     *
+     * @param task Task to be removed from the index
+     */
+    void removeTask(Task task) {
+        for (String word : splitIntoWords(task.getDescription())) {
+            PostingList posting = postings.get(word);
+            if (posting != null && posting.remove(task.getID()) && posting.size() == 0) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Removes several tasks from the index at once. The IDs to be removed are grouped by word first,
+     * so that each posting list is compacted in a single pass instead of once for every task
+     *
+     * @param tasks Tasks to be removed from the index
+     */
+    void removeTasks(List<Task> tasks) {
+        HashMap<String, PostingList> removals = new HashMap<>();
+        for (Task task : tasks) {
+            for (String word : splitIntoWords(task.getDescription())) {
+                removals.computeIfAbsent(word, key -> new PostingList()).add(task.getID());
+            }
+        }
+        for (Map.Entry<String, PostingList> removal : removals.entrySet()) {
+            PostingList posting = postings.get(removal.getKey());
+            if (posting != null) {
+                posting.removeAll(removal.getValue());
+                if (posting.size() == 0) {
+                    postings.remove(removal.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the IDs of the tasks whose description contains every one of the given words,
+     * intersecting the shortest posting lists first.
+     *
+     * @param words Words to be searched for
+     * @return IDs of the matching tasks, in increasing order
+     */
+    PostingList findAll(List<String> words) {
+        if (words.isEmpty()) {
+            return new PostingList();
+        }
+        List<PostingList> matches = new ArrayList<>();
+        for (String word : words) {
+            PostingList posting = postings.get(word);
+            if (posting == null) {
+                return new PostingList();
+            }
+            matches.add(posting);
+        }
+        matches.sort(Comparator.comparingInt(PostingList::size));
+        PostingList result = matches.get(0);
+        for (int i = 1; i < matches.size() && result.size() > 0; i++) {
+            result = result.intersect(matches.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Splits a description into the words that are indexed, which are separated by whitespace
+     *
+     * @param description Description to be split
+     * @return Words in the description, without empty words
+     */
+    static List<String> splitIntoWords(String description) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= description.length(); i++) {
+            boolean isSpace = i == description.length() || Character.isWhitespace(description.charAt(i));
+            if (isSpace && start >= 0) {
+                words.add(description.substring(start, i));
+                start = -1;
+            } else if (!isSpace && start < 0) {
+                start = i;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,161 @@
+package duke.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import duke.tasks.Task;
+
+import duke.errors.DukeException;
+
+
+/**
+ * Represents a loader for large data files. The file is read in one go and cut at line boundaries
+ * into chunks, which are parsed in parallel on a fork-join pool and then put back together
+ * in their original order. The file is read rather than mapped, as a mapped file cannot be
+ * replaced on every platform until the mapping is garbage collected.
+ */
+class ParallelLoader {
+
+    static final int CHUNK_SIZE = 1 << 20;
+
+    private ByteBuffer buffer;
+    private int[] chunkStarts;
+    private List<List<Task>> chunkTasks;
+    private DukeException[] chunkErrors;
+
+    //helper constructor, as a loader is only used for a single file
+    private ParallelLoader(ByteBuffer buffer, int chunkSize) {
+        this.buffer = buffer;
+        this.chunkStarts = findChunkStarts(buffer, chunkSize);
+        this.chunkTasks = new ArrayList<>(Collections.nCopies(chunkStarts.length - 1, null));
+        this.chunkErrors = new DukeException[chunkStarts.length - 1];
+    }
+
+    /**
+     * Reads every task in the file, skipping the checkpoint line and blank lines.
+     *
+     * @param file File to be read, which must be smaller than 2GB.
+     * @return An ArrayList of tasks, in the order they appear in the file.
+     * @throws IOException Thrown when the file cannot be read.
+     * @throws DukeException Thrown when a line does not hold a recognised task.
+     */
+    static ArrayList<Task> readTasks(File file) throws IOException, DukeException {
+        return readTasks(file, CHUNK_SIZE);
+    }
+
+    /**
+     * Reads every task in the file, cutting it into chunks of roughly the given size.
+     *
+     * @param file File to be read, which must be smaller than 2GB.
+     * @param chunkSize Number of bytes parsed by a single task of the pool.
+     * @return An ArrayList of tasks, in the order they appear in the file.
+     * @throws IOException Thrown when the file cannot be read.
+     * @throws DukeException Thrown when a line does not hold a recognised task.
+     */
+    static ArrayList<Task> readTasks(File file, int chunkSize) throws IOException, DukeException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        ParallelLoader loader = new ParallelLoader(buffer, chunkSize);
+        ForkJoinPool.commonPool().invoke(loader.new ParseChunks(0, loader.chunkTasks.size()));
+
+        int numTasks = 0;
+        for (int i = 0; i < loader.chunkTasks.size(); i++) {
+            if (loader.chunkErrors[i] != null) {
+                throw loader.chunkErrors[i];
+            }
+            numTasks += loader.chunkTasks.get(i).size();
+        }
+        ArrayList<Task> taskList = new ArrayList<>(numTasks);
+        for (List<Task> tasks : loader.chunkTasks) {
+            taskList.addAll(tasks);
+        }
+        return taskList;
+    }
+
+    //helper method to place a chunk boundary just after the first line break at or after every
+    //multiple of the chunk size, so that no line is split between two chunks
+    private static int[] findChunkStarts(ByteBuffer buffer, int chunkSize) {
+        List<Integer> starts = new ArrayList<>();
+        starts.add(0);
+        int position = chunkSize;
+        while (position < buffer.limit()) {
+            while (position < buffer.limit() && buffer.get(position - 1) != '\n') {
+                position++;
+            }
+            if (position < buffer.limit()) {
+                starts.add(position);
+            }
+            position += chunkSize;
+        }
+        starts.add(buffer.limit());
+
+        int[] chunkStarts = new int[starts.size()];
+        for (int i = 0; i < chunkStarts.length; i++) {
+            chunkStarts[i] = starts.get(i);
+        }
+        return chunkStarts;
+    }
+
+    //helper method to decode a chunk and parse each of its lines into a task
+    private void parseChunk(int chunk) {
+        List<Task> tasks = new ArrayList<>();
+        chunkTasks.set(chunk, tasks);
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(chunkStarts[chunk]);
+        slice.limit(chunkStarts[chunk + 1]);
+        CharBuffer chars = Charset.defaultCharset().decode(slice);
+        String text = chars.toString();
+        int start = 0;
+        try {
+            while (start < text.length()) {
+                int end = text.indexOf('\n', start);
+                if (end < 0) {
+                    end = text.length();
+                }
+                int lineEnd = end > start && text.charAt(end - 1) == '\r' ? end - 1 : end;
+                if (lineEnd > start && !text.startsWith(Storage.CHECKPOINT_PREFIX, start)) {
+                    tasks.add(Storage.formatFileToTask(text.substring(start, lineEnd)));
+                }
+                start = end + 1;
+            }
+        } catch (DukeException e) {
+            chunkErrors[chunk] = e;
+        }
+    }
+
+    /**
+     * Represents the parsing of a range of chunks, which is halved until a single chunk is left.
+     */
+    private class ParseChunks extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private int fromChunk;
+        private int toChunk;
+
+        ParseChunks(int fromChunk, int toChunk) {
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk <= 1) {
+                if (fromChunk < toChunk) {
+                    parseChunk(fromChunk);
+                }
+                return;
+            }
+            int middle = (fromChunk + toChunk) >>> 1;
+            invokeAll(new ParseChunks(fromChunk, middle), new ParseChunks(middle, toChunk));
+        }
+    }
+}
@@ -2,16 +2,15 @@ package duke.core;
 
 import duke.commands.*;
 
-import duke.errors.DukeAssertions;
 import duke.errors.DukeException;
 import duke.errors.DukeExceptionType;
+import duke.errors.InvalidInputException;
+
+import duke.metrics.CommandEvent;
+import duke.metrics.CommandMetrics;
+import duke.metrics.Phase;
 
-import java.util.List;
-import java.lang.StringBuilder;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.time.LocalDateTime;
-import java.util.Arrays;
 
 /**
  * Represents a class that takes in user inputs and translates them into different commands.
@@ -24,6 +23,8 @@ public class Parser {
     /**
      * Takes in user input and convert it into a command which performs a set of
      * instructions on the task list and ui.
+     * Several commands after the batch word, separated by semicolons, or on separate lines are run together
+     * as one batch. Anywhere else a semicolon is part of the command.
      *
      * @param input String that contains user input
      * @return A command that execute a set of instructions.
@@ -31,67 +32,89 @@ public class Parser {
      * @throws DukeException Thrown when exceptions occur due to non-length checks
      */
     public static Command parseCommand(String input) throws DukeException, IllegalArgumentException {
-        String[] tokens = input.split(" ");
-        if (tokens.length == 0) {
+        CommandEvent event = CommandEvent.startPhase();
+        long start = CommandMetrics.start();
+        Command command = createCommand(input);
+        CommandMetrics.record(command.getCommandType(), Phase.PARSE, start);
+        event.finish(command.getCommandType(), Phase.PARSE, 0);
+        return command;
+    }
+
+    //helper method to create the command for the input, without timing it.
+    //The command word is looked up without copying it, and the words after it are read
+    //by the command being created rather than split up front
+    private static Command createCommand(String input) throws DukeException, IllegalArgumentException {
+        if (input.indexOf('\n') >= 0) {
+            return BatchCommand.createBatchIfValid(input);
+        }
+        int commandEnd = input.indexOf(' ');
+        if (commandEnd < 0) {
+            commandEnd = input.length();
+        } else if (commandEnd == 0 && isBlank(input)) {
             return new NullCommand();
-        } else if (tokens[0].equals("bye")) {
-            return new ExitCommand();
-        } else if (tokens[0].equals("list")) {
-            return new ListCommand();
-        } else if (tokens[0].equals("help")) {
-            return new HelpCommand();
-        }
-        checkValidLength(tokens);
-
-        if (tokens[0].equals("done")) {
-            return DoneCommand.createDoneIfValid(tokens);
-        } else if (tokens[0].equals("delete")) {
-            return DeleteCommand.createDeleteIfValid(tokens);
-        } else if (tokens[0].equals("find")) {
-            return FindCommand.createFindCommandIfValid(tokens);
-        } else {
-            return Parser.createAddCommandIfValid(tokens, input);
+        }
+        CommandWord commandWord = CommandWord.find(input, commandEnd);
+        if (commandWord == null) {
+            throw new DukeException("Command doesn't exist", DukeExceptionType.INVALID_COMMAND);
+        }
+        CommandArguments arguments = new CommandArguments(input, commandEnd);
+        checkArguments(commandWord, arguments);
+
+        switch (commandWord) {
+            case BYE:
+                return new ExitCommand();
+            case BATCH:
+                return BatchCommand.createBatchIfValid(input);
+            case LIST:
+                return ListCommand.createListCommand(arguments);
+            case HELP:
+                return new HelpCommand();
+            case STATS:
+                return new StatsCommand();
+            case UPCOMING:
+                return UpcomingCommand.createUpcomingIfValid(arguments);
+            case DONE:
+                return DoneCommand.createDoneIfValid(arguments);
+            case DELETE:
+                return DeleteCommand.createDeleteIfValid(arguments);
+            case FIND:
+                return FindCommand.createFindCommandIfValid(arguments);
+            case DUE:
+                return DueCommand.createDueIfValid(arguments);
+            case TODO:
+                return new AddToDoCommand(arguments.getRemaining());
+            case DEADLINE:
+                return createDateCommandIfValid(input, commandEnd, 0);
+            case EVENT:
+                return createDateCommandIfValid(input, commandEnd, 1);
+            default:
+                return new NullCommand();
         }
     }
 
+    //helper method to check if the input holds nothing but spaces
+    private static boolean isBlank(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (input.charAt(i) != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Throws an exception which tells
-     * the user that the input command is not valid, by checking the length of command
-     * the user that the input lacks information based on each case
+     * the user that the input lacks information, for the commands that need more than the command word
      *
-     * @param tokens User input split by space
-     * @throws IllegalArgumentException Thrown when the length of the command is not sufficient
+     * @param commandWord Word the command starts with
+     * @param arguments Words following the command word
+     * @throws IllegalArgumentException Thrown when the command needs more words but has none
      */
-    private static void checkValidLength(String[] tokens) throws IllegalArgumentException {
-        DukeAssertions.assertArrayNotEmpty(tokens);
-        List<String> group1 = List.of("todo", "deadline", "event");
-        List<String> group2 = List.of("done", "delete");
-        if (tokens.length == 1 && group1.contains(tokens[0])) {
-            throw new IllegalArgumentException(String.format("OOPS!!! The description of a %s cannot be empty.",tokens[0]));
-        } else if (tokens.length == 1 && group2.contains(tokens[0])) {
-            throw new IllegalArgumentException(String.format("OOPS!!! %s command requires integer.",tokens[0]));
-        } else if (tokens.length == 1 && tokens[0].equals("find")) {
-            throw new IllegalArgumentException(String.format("OOPS!!! %s command requires keyword input.",tokens[0]));
-        }
-    }
-
-    // helper method to check if user input can still be a valid to-do, deadline or event task
-    private static Command createAddCommandIfValid(String[] tokens, String fullCommand) throws DukeException, IllegalArgumentException {
-        DukeAssertions.assertArrayNotEmpty(tokens);
-
-        List<String> validCommands = List.of("todo", "deadline", "event");
-
-        if (!validCommands.contains(tokens[0])) {
-            throw new DukeException("Command doesn't exist", DukeExceptionType.INVALID_COMMAND);
-        }
-        if (tokens[0].equals("todo")) {
-            return new AddToDoCommand(tokens);
-        } else if (tokens[0].equals("deadline")) {
-            return createDateCommandIfValid(tokens,fullCommand,0);
-        } else if (tokens[0].equals("event")) {
-            return createDateCommandIfValid(tokens,fullCommand,1);
-        } else {
-            return new NullCommand();
+    private static void checkArguments(CommandWord commandWord, CommandArguments arguments)
+            throws IllegalArgumentException {
+        String message = commandWord.getMissingArgumentsMessage();
+        if (message != null && !arguments.hasNext()) {
+            throw new InvalidInputException(message);
         }
     }
 
@@ -104,142 +127,139 @@ public class Parser {
      * @return The formatted date and time, if it can be formatted
      * @throws DukeException Thrown when the input cannot be formatted
      */
-
-    //@@author qweiping31415-reused
-    //Reused from https://github.com/briyanii/duke/blob/master/src/main/java/duke/command/Parser.java
-    // with minor modifications
     public static String parseDateTime(String dateTimeString) throws DukeException {
-        assert dateTimeString != null;
-        try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm");
-            LocalDateTime dateAndTime = LocalDateTime.parse(dateTimeString, formatter);
-
-            int year = dateAndTime.getYear();
-            String month = dateAndTime.getMonth().toString();
-            int day = dateAndTime.getDayOfMonth();
-            int hour = dateAndTime.getHour();
-            int minute = dateAndTime.getMinute();
-
-            StringBuilder dateTime = new StringBuilder();
-
-            dateTime.append(getFormattedDay(day));
-            dateTime.append(" of ");
-            dateTime.append(month);
-            dateTime.append(" ");
-            dateTime.append(year);
-            dateTime.append(", ");
-            dateTime.append((hour > 12 ? hour - 12 : hour == 0 ? 12 : hour));
-            if (minute != 0) {
-                dateTime.append(":");
-                dateTime.append(minute);
-            }
-            if (hour < 12) {
-                dateTime.append("am");
-            } else {
-                dateTime.append("pm");
-            }
+        return formatDateTime(parseLocalDateTime(dateTimeString));
+    }
 
-            return dateTime.toString();
-        } catch (DateTimeParseException exception) {
-            throw new DukeException(dateTimeString + " is not in valid dd/MM/yyyy HHmm format.",
-                    DukeExceptionType.INVALID_DATE_TIME_FORMAT);
-        }
+    /**
+     * Takes in a string and tries to parse input string as Date and Time in dd/MM/yyyy HHmm
+     *
+     * @param dateTimeString String to be parsed, if possible
+     * @return The date and time in the string
+     * @throws DukeException Thrown when the input is not in dd/MM/yyyy HHmm format
+     */
+    public static LocalDateTime parseLocalDateTime(String dateTimeString) throws DukeException {
+        return DateTimeParser.parse(dateTimeString);
     }
 
-    // helper method to attach a prefix to a day
-    private static String getFormattedDay(int day) {
-        assert day > 1;
-        int remainderHundred = day % 100;
-        if (remainderHundred > 9 && remainderHundred < 21) {
-            return day + "th";
-        } else {
-            int remainderTen = day % 10;
-            switch (remainderTen) {
-                case 1:
-                    return day + "st";
-                case 2:
-                    return day + "nd";
-                case 3:
-                    return day + "rd";
-                default:
-                    return day + "th";
-            }
-        }
+    /**
+     * Converts a date and time into a more readable format
+     * eg. 11/12/1111 1111 -> 11th of DECEMBER 1111, 11:11am
+     *
+     * @param dateAndTime Date and time to be converted
+     * @return The formatted date and time
+     */
+    public static String formatDateTime(LocalDateTime dateAndTime) {
+        return DateTimeParser.format(dateAndTime);
     }
-    //@@author
 
 
 
     // helper method to check if the given date and time of a deadline or event task
-    // can be recognised as a DateTime format.
-    private static Command createDateCommandIfValid(String[] tokens, String fullCommand, int mode)
+    // can be recognised as a DateTime format. The description and the date are cut out of the input
+    // around the first keyword, which must be a word of its own and the only one surrounded by spaces
+    private static Command createDateCommandIfValid(String input, int commandEnd, int mode)
             throws DukeException, IllegalArgumentException {
-        DukeAssertions.assertArrayNotEmpty(tokens);
-        assert fullCommand != null;
+        assert input != null;
 
-        List<String> lst = Arrays.asList(tokens);
         String key = responses[mode];
-        if (!lst.contains(key)) {
-            throw new IllegalArgumentException("Missing deadline keyword!!");
+        int keyStart = findWord(input, commandEnd, key);
+        if (keyStart < 0) {
+            throw new InvalidInputException("Missing deadline keyword!!");
         }
-
-        int index = lst.indexOf(key);
-        checkTaskDescription(index);
-        String[] datedTaskSplit = fullCommand.split(" " + key + " ");
-        checkDeadline(datedTaskSplit);
-        String description = datedTaskSplit[0].substring(startingIndex[mode]);
-        String dateTime = datedTaskSplit[1];
+        checkTaskDescription(keyStart - 1 - commandEnd);
+
+        String separator = " " + key + " ";
+        int descriptionEnd = input.indexOf(separator);
+        int dateStart = descriptionEnd < 0 ? input.length() : descriptionEnd + separator.length();
+        int dateEnd = descriptionEnd < 0 ? -1 : input.indexOf(separator, dateStart);
+        checkDeadline(countParts(input, separator, descriptionEnd));
+        String description = input.substring(startingIndex[mode], descriptionEnd);
+        String dateTime = input.substring(dateStart, dateEnd < 0 ? input.length() : dateEnd);
+        LocalDateTime parsedDateTime = null;
         if (isDate(dateTime)) {
-            String dateTimeString = tokens[index + 1] + " " + tokens[index + 2];
-            dateTime = Parser.parseDateTime(dateTimeString);
+            parsedDateTime = Parser.parseLocalDateTime(dateTime);
+            dateTime = Parser.formatDateTime(parsedDateTime);
+        }
+
+        return createDateCommand(mode, description, dateTime, parsedDateTime);
+    }
+
+    //helper method to find where a word standing on its own starts after the command word, or -1 if it is missing
+    private static int findWord(String input, int commandEnd, String word) {
+        int start = input.indexOf(word, commandEnd + 1);
+        while (start >= 0) {
+            int end = start + word.length();
+            if (input.charAt(start - 1) == ' ' && (end == input.length() || input.charAt(end) == ' ')) {
+                return start;
+            }
+            start = input.indexOf(word, start + 1);
         }
+        return -1;
+    }
 
-        return createDateCommand(mode, description, dateTime);
+    //helper method to count the parts of the input between the separators,
+    //leaving out the empty parts at the end
+    private static int countParts(String input, String separator, int firstSeparator) {
+        int numParts = 1;
+        int part = 0;
+        int separatorStart = firstSeparator;
+        while (separatorStart >= 0) {
+            part++;
+            int partStart = separatorStart + separator.length();
+            separatorStart = input.indexOf(separator, partStart);
+            int partEnd = separatorStart < 0 ? input.length() : separatorStart;
+            if (partEnd > partStart) {
+                numParts = part + 1;
+            }
+        }
+        return numParts;
     }
-    
+
     //helper method to create the correct kind of DateTime Command
-    private static Command createDateCommand(int mode, String description, String correctDate) {
+    private static Command createDateCommand(int mode, String description, String correctDate,
+            LocalDateTime dateTime) {
         if (mode==0) {
-            return new AddDeadlineCommand(description,correctDate);
+            return new AddDeadlineCommand(description,correctDate,dateTime);
         } else {
-            return new AddEventCommand(description,correctDate);
+            return new AddEventCommand(description,correctDate,dateTime);
         }
     }
 
-    //helper method to verify that the date is actually in dd/MM/yyyy HHmm format
+    //helper method to verify that the date is actually in dd/MM/yyyy HHmm format,
+    //which is two words with exactly two slashes in the first, counted without splitting the string
     private static boolean isDate(String dateDescription){
         assert dateDescription != null;
-        String[] dateSplit = dateDescription.split(" ");
-        if (dateSplit.length != 2){
-            return false;
-        } else if (!dateSplit[0].contains("/") ||
-                checkSlashCount(dateSplit[0])) {
+        int space = dateDescription.indexOf(' ');
+        if (space <= 0 || space == dateDescription.length() - 1
+                || dateDescription.indexOf(' ', space + 1) >= 0) {
             return false;
         }
-        return true;
-    }
-
-    private static boolean checkSlashCount(String str) {
-        return str.chars()
-                .filter(ch -> ch == '/')
-                .count() != 2;
+        int numSlashes = 0;
+        for (int i = 0; i < space; i++) {
+            if (dateDescription.charAt(i) == '/') {
+                numSlashes++;
+            }
+        }
+        return numSlashes == 2;
     }
 
-    //helper method to check if the datetime task can have a description
-    private static void checkTaskDescription(int index) throws IllegalArgumentException {
-        if (index -1 <=0) {
-            throw new IllegalArgumentException("Please input task description for DateCommand");
+    //helper method to check if the datetime task can have a description, given how many characters
+    //come between the command word and the space in front of the keyword
+    private static void checkTaskDescription(int gap) throws IllegalArgumentException {
+        if (gap <= 0) {
+            throw new InvalidInputException("Please input task description for DateCommand");
         }
 
     }
 
     //helper method to check if the datetime task is given a deadline
-    private static void checkDeadline(String [] datedTaskSplit) throws IllegalArgumentException {
-        if (datedTaskSplit.length > 2) {
-            throw new IllegalArgumentException("Multiple keyword detected!!");
+    private static void checkDeadline(int numParts) throws IllegalArgumentException {
+        if (numParts > 2) {
+            throw new InvalidInputException("Multiple keyword detected!!");
         }
-        if (datedTaskSplit.length < 2) {
-            throw new IllegalArgumentException("Please insert a due date!!!");
+        if (numParts < 2) {
+            throw new InvalidInputException("Please insert a due date!!!");
         }
     }
 
@@ -0,0 +1,193 @@
+package duke.core;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+
+/**
+ * Represents a sorted set of task IDs, used by the search indexes to record which tasks
+ * contain a given token. Provides methods to add and remove an ID, to remove many IDs at once
+ * and to intersect two lists, as well as to write the list out and read it back in one piece.
+ */
+class PostingList {
+
+    private static final int GALLOP_RATIO = 8;
+
+    private int[] taskIDs;
+    private int size;
+
+    /**
+     * Initialises an empty posting list
+     */
+    PostingList() {
+        this.taskIDs = new int[2];
+        this.size = 0;
+    }
+
+    /**
+     * Reads a list written by writeTo, copying its IDs out of the buffer in a single step
+     *
+     * @param buffer Buffer holding the list, which is left positioned after it
+     * @return The list read
+     * @throws BufferUnderflowException Thrown when the buffer ends before the list does
+     */
+    static PostingList readFrom(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        if (size < 0 || size > buffer.remaining() / Integer.BYTES) {
+            throw new BufferUnderflowException();
+        }
+        PostingList posting = new PostingList();
+        posting.taskIDs = new int[Math.max(size, 2)];
+        buffer.asIntBuffer().get(posting.taskIDs, 0, size);
+        buffer.position(buffer.position() + size * Integer.BYTES);
+        posting.size = size;
+        return posting;
+    }
+
+    /**
+     * Writes the number of IDs in the list followed by the IDs themselves
+     *
+     * @param out Stream the list is written to
+     * @throws IOException Thrown when writing to the stream fails
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(Integer.BYTES + size * Integer.BYTES);
+        bytes.putInt(size);
+        bytes.asIntBuffer().put(taskIDs, 0, size);
+        out.write(bytes.array());
+    }
+
+    /**
+     * Adds an ID to the list. IDs are handed out in increasing order, so this is usually an append.
+     *
+     * @param taskID ID to be added
+     */
+    void add(int taskID) {
+        if (size > 0 && taskIDs[size - 1] >= taskID) {
+            int index = Arrays.binarySearch(taskIDs, 0, size, taskID);
+            if (index < 0) {
+                insertAt(-index - 1, taskID);
+            }
+            return;
+        }
+        insertAt(size, taskID);
+    }
+
+    //helper method to place an ID at the given index, growing the array when it is full
+    private void insertAt(int index, int taskID) {
+        if (size == taskIDs.length) {
+            taskIDs = Arrays.copyOf(taskIDs, size * 2);
+        }
+        System.arraycopy(taskIDs, index, taskIDs, index + 1, size - index);
+        taskIDs[index] = taskID;
+        size++;
+    }
+
+    /**
+     * Removes an ID from the list
+     *
+     * @param taskID ID to be removed
+     * @return True if the ID was in the list, false otherwise
+     */
+    boolean remove(int taskID) {
+        int index = Arrays.binarySearch(taskIDs, 0, size, taskID);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(taskIDs, index + 1, taskIDs, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes every ID that is also in the other list, in a single pass over both lists
+     *
+     * @param other IDs to be removed
+     */
+    void removeAll(PostingList other) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.taskIDs[j] < taskIDs[i]) {
+                j++;
+            }
+            if (j == other.size || other.taskIDs[j] != taskIDs[i]) {
+                taskIDs[kept] = taskIDs[i];
+                kept++;
+            }
+        }
+        size = kept;
+    }
+
+    /**
+     * Checks if an ID is in the list
+     *
+     * @param taskID ID to be checked
+     * @return True if the ID is in the list, false otherwise
+     */
+    boolean contains(int taskID) {
+        return Arrays.binarySearch(taskIDs, 0, size, taskID) >= 0;
+    }
+
+    /**
+     * Returns the number of IDs in the list
+     *
+     * @return Number of IDs in the list
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the ID at the given index, counting from the smallest ID
+     *
+     * @param index Index of the ID
+     * @return ID at the given index
+     */
+    int get(int index) {
+        return taskIDs[index];
+    }
+
+    /**
+     * Returns the IDs found in both this list and the other list. When one list is much
+     * shorter, its IDs are looked up in the longer one so the cost follows the shorter list.
+     *
+     * @param other List to be intersected with
+     * @return A new list with the common IDs
+     */
+    PostingList intersect(PostingList other) {
+        PostingList shorter = this.size <= other.size ? this : other;
+        PostingList longer = shorter == this ? other : this;
+        PostingList result = new PostingList();
+        if (shorter.size * GALLOP_RATIO < longer.size) {
+            int from = 0;
+            for (int i = 0; i < shorter.size && from < longer.size; i++) {
+                int index = Arrays.binarySearch(longer.taskIDs, from, longer.size, shorter.taskIDs[i]);
+                if (index >= 0) {
+                    result.insertAt(result.size, shorter.taskIDs[i]);
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+            }
+            return result;
+        }
+        int i = 0;
+        int j = 0;
+        while (i < shorter.size && j < longer.size) {
+            if (shorter.taskIDs[i] < longer.taskIDs[j]) {
+                i++;
+            } else if (shorter.taskIDs[i] > longer.taskIDs[j]) {
+                j++;
+            } else {
+                result.insertAt(result.size, shorter.taskIDs[i]);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+}
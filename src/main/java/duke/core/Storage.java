@@ -1,9 +1,24 @@
 package duke.core;
 
 import java.io.*;
-import java.nio.file.Paths;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Scanner;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import duke.tasks.Task;
 import duke.tasks.ToDo;
@@ -13,42 +28,153 @@ import duke.tasks.Event;
 import duke.errors.DukeException;
 import duke.errors.DukeExceptionType;
 
+import duke.metrics.CommandMetrics;
+import duke.metrics.Phase;
+import duke.metrics.StorageWriteEvent;
+
 
 
 
 /**
  * Represents the storage of the application. Provides methods that create a storage,
  * overwrite the contents of the file and loading data from the file.
+ * How each change is saved depends on the storage mode, and the file is kept in either storage format.
  */
 public class Storage{
 
+    private static final int COMPACTION_THRESHOLD = 10000;
+    private static final long PARALLEL_LOAD_THRESHOLD = 4L * ParallelLoader.CHUNK_SIZE;
+    private static final String FIELD_SEPARATOR = " / ";
+    private static final long FLUSH_INTERVAL_MILLIS = Long.getLong("duke.storage.flushInterval", 1000);
+    private static final int FLUSH_OPERATIONS = Integer.getInteger("duke.storage.flushOperations", 100);
+    private static final long SYNC_INTERVAL_NANOS =
+            TimeUnit.MILLISECONDS.toNanos(Long.getLong("duke.storage.syncInterval", 1000));
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    private static final int INDEX_HEADER_SIZE = Long.BYTES;
+    private static final int INDEX_ENTRY_SIZE = Integer.BYTES + Long.BYTES;
+    private static final boolean IS_IMAGE_ENABLED =
+            !"false".equalsIgnoreCase(System.getProperty("duke.storage.image"));
+    static final String CHECKPOINT_PREFIX = "# ";
+
     private File file;
+    private StorageMode mode;
+    private StorageFormat format;
+    private Journal journal;
+    private ExecutorService compactor;
+    private volatile boolean isCompacting;
+    private ScheduledExecutorService flusher;
+    private final Object flushLock = new Object();
+    private ArrayList<Task> changedList;
+    private int numUnflushedChanges;
+    private int batchDepth;
+    private ArrayList<Task> batchedList;
+    private SyncPolicy syncPolicy;
+    private ScheduledExecutorService syncer;
+    private long lastSyncNanos;
+    private boolean isSyncPending;
+    private File indexFile;
+    private ByteBuffer index;
+    private FileChannel patchChannel;
+    private File imageFile;
+    private boolean hasImage;
+    private volatile boolean isImageCurrent;
 
     /**
      * Initialises the Storage with the file
      *
      * @param file File Object
+     * @param mode The way changes to the task list are persisted
+     * @param format The format the file is written in
      */
-    private Storage(File file) {
+    private Storage(File file, StorageMode mode, StorageFormat format) {
         this.file = file;
+        this.mode = mode;
+        this.format = format;
+        this.journal = new Journal(new File(file.getAbsoluteFile().getParentFile(), "data.journal"));
+        this.indexFile = new File(file.getPath() + ".index");
+        this.imageFile = new File(file.getAbsoluteFile().getParentFile(), "data.image");
+        this.syncPolicy = SyncPolicy.fromSystemProperty();
+        this.lastSyncNanos = System.nanoTime() - SYNC_INTERVAL_NANOS;
     }
 
     /**
-     * Creates a Storage for the application
+     * Creates a Storage for the application that rewrites the file on every change
      * It creates a new directory with a new text file if there is no existing file
      *
      * @return Storage for the application
      */
     public static Storage createStorageIfRequired() {
+        return createStorageIfRequired(StorageMode.REWRITE);
+    }
+
+    /**
+     * Creates a Storage for the application in the DukeData folder of the user's home directory
+     * It creates a new directory with a new text file if there is no existing file
+     *
+     * @param mode The way changes to the task list are persisted
+     * @return Storage for the application
+     */
+    public static Storage createStorageIfRequired(StorageMode mode) {
+        return createStorageIfRequired(mode, StorageFormat.TEXT);
+    }
+
+    /**
+     * Creates a Storage for the application in the DukeData folder of the user's home directory
+     * It creates a new directory with a new data file if there is no existing file
+     *
+     * @param mode The way changes to the task list are persisted
+     * @param format The format the file is written in
+     * @return Storage for the application
+     */
+    public static Storage createStorageIfRequired(StorageMode mode, StorageFormat format) {
         String path = System.getProperty("user.home");
         path += File.separator + "DukeData";
-        File customDir = new File(path);
+        return createStorageIfRequired(new File(path), mode, format);
+    }
+
+    /**
+     * Creates a Storage for the application in the given directory, keeping the file in the text format
+     * It creates the directory with a new text file if there is no existing file
+     *
+     * @param customDir Directory which holds the data file
+     * @param mode The way changes to the task list are persisted
+     * @return Storage for the application
+     */
+    public static Storage createStorageIfRequired(File customDir, StorageMode mode) {
+        return createStorageIfRequired(customDir, mode, StorageFormat.TEXT);
+    }
+
+    /**
+     * Creates a Storage for the application in the given directory
+     * It creates the directory with a new data file if there is no existing file.
+     * When there is only a file in the other format, it is converted to the given format
+     * and kept with a .bak extension.
+     *
+     * @param customDir Directory which holds the data file
+     * @param mode The way changes to the task list are persisted
+     * @param format The format the file is written in
+     * @return Storage for the application
+     */
+    public static Storage createStorageIfRequired(File customDir, StorageMode mode, StorageFormat format) {
         if (!customDir.exists()) {
             customDir.mkdirs();
         }
 
-        path += File.separator + "data.txt";
-        File file = new File(path);
+        File file = new File(customDir, format.getFileName());
+        StorageFormat otherFormat = format == StorageFormat.TEXT ? StorageFormat.BINARY : StorageFormat.TEXT;
+        File otherFile = new File(customDir, otherFormat.getFileName());
+
+        if (!file.exists() && otherFile.exists()) {
+            try {
+                convert(otherFile, file, format);
+                Files.move(otherFile.toPath(), new File(otherFile.getPath() + ".bak").toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException | DukeException e) {
+                e.printStackTrace();
+                file.delete();
+                return new Storage(otherFile, mode, otherFormat);
+            }
+        }
 
         if (!file.exists()) {
             try {
@@ -58,7 +184,21 @@ public class Storage{
             }
         }
 
-        return new Storage(file);
+        return new Storage(file, mode, format);
+    }
+
+    /**
+     * Converts a data file in either format into the given format, keeping its journal checkpoint
+     *
+     * @param source File to be converted, which is left untouched
+     * @param target File to be written
+     * @param targetFormat The format the target is written in
+     * @throws IOException Thrown when reading or writing a file fails.
+     * @throws DukeException Thrown when the source does not hold recognised tasks.
+     */
+    public static void convert(File source, File target, StorageFormat targetFormat)
+            throws IOException, DukeException {
+        replaceFile(target, readFile(source), readCheckpoint(source), targetFormat, true, null);
     }
 
 
@@ -66,27 +206,181 @@ public class Storage{
     /**
      * Reads the data stored in the file, after which the date would be used
      * to generate a ArrayList that would be returned.
+     * Any journal records newer than the file are replayed on top of it, and files written
+     * before tasks had IDs are migrated by giving their tasks IDs.
+     * Large text files are read in one go and parsed in parallel.
+     * The format of the file is recognised from its contents.
+     * Any image of the task list is removed, as it is no longer known to be up to date once the tasks
+     * have been loaded from the file.
      *
      * @return An ArrayList of tasks.
      * @throws DukeException Thrown when the file does not exist.
      */
     public ArrayList<Task> load() throws DukeException {
-        ArrayList<Task> taskList = new ArrayList<>();
         try {
-            Scanner sc = new Scanner(this.file);
-            while (sc.hasNext()) {
-                String line = sc.nextLine();
-                taskList.add(formatFileToTask(line));
+            discardImage();
+            long checkpoint = readCheckpoint(this.file);
+            ArrayList<Task> taskList = readFile(this.file);
+            boolean isMigrated = migrateTaskIDs(taskList);
+            recoverJournal(taskList, checkpoint, isMigrated, null);
+            if (mode == StorageMode.IN_PLACE && index == null) {
+                index = readIndex();
             }
             return taskList;
-        } catch (FileNotFoundException e) {
+        } catch (IOException e) {
             throw new DukeException("Load failed", DukeExceptionType.FILE_NOT_FOUND);
         }
     }
 
+    /**
+     * Reads the image of the task list written when the application last exited, if it is up to date
+     * with the file, and replays any journal records newer than the image on top of it.
+     * An image which cannot be read is ignored, leaving the tasks to be loaded from the file instead.
+     *
+     * @return The image of the task list, or null if the tasks have to be loaded from the file.
+     */
+    TaskListImage loadImage() {
+        if (!IS_IMAGE_ENABLED) {
+            return null;
+        }
+        try {
+            TaskListImage image = TaskListImage.read(imageFile, this.file, readCheckpoint(this.file));
+            if (image == null) {
+                return null;
+            }
+            hasImage = true;
+            recoverJournal(image.getTasks(), image.getSequence(), false, image.getReplayedTasks());
+            if (mode == StorageMode.IN_PLACE && index == null) {
+                index = readIndex();
+            }
+            isImageCurrent = hasImage && image.getReplayedTasks().isEmpty();
+            return image;
+        } catch (IOException | DukeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes an image of the task list next to the file, to be loaded instead of the file on the next start.
+     * Nothing is written during a batch, as the file has yet to catch up with the list, or when the image
+     * already on disk holds the same tasks, as nothing was changed since it was loaded or written.
+     * In journal mode the image is tagged with the last journal record, so that it stays in use
+     * with the records after it replayed on top, while in the other modes it is removed as soon as
+     * the file changes.
+     *
+     * @param image Image of the task list, holding the same tasks as the file.
+     * @throws IOException Thrown when writing to file fails.
+     */
+    synchronized void writeImage(TaskListImage image) throws IOException {
+        if (!IS_IMAGE_ENABLED || batchDepth > 0 || isImageCurrent) {
+            return;
+        }
+        long sequence = mode == StorageMode.JOURNAL ? journal.getLastSequence() : 0;
+        image.write(imageFile, this.file, sequence);
+        hasImage = true;
+        isImageCurrent = true;
+    }
+
+    //helper method to remove the image of the task list, once it can no longer be used
+    private synchronized void discardImage() {
+        if (hasImage || imageFile.exists()) {
+            imageFile.delete();
+            hasImage = false;
+        }
+        isImageCurrent = false;
+    }
 
     /**
-     * Overwrites the data in the file by writing to the file.
+     * Reads every task in the file line by line, skipping the checkpoint line and blank lines.
+     *
+     * @return An ArrayList of tasks, in the order they appear in the file.
+     * @throws FileNotFoundException Thrown when the file does not exist.
+     * @throws DukeException Thrown when a line does not hold a recognised task.
+     */
+    ArrayList<Task> readTasksWithScanner() throws FileNotFoundException, DukeException {
+        return readTasksWithScanner(this.file);
+    }
+
+    //helper method to read every task in a file of either format
+    private static ArrayList<Task> readFile(File file) throws IOException, DukeException {
+        if (BinaryTaskFormat.isBinaryFile(file)) {
+            return BinaryTaskFormat.readTasks(file);
+        } else if (file.length() >= PARALLEL_LOAD_THRESHOLD && file.length() <= Integer.MAX_VALUE) {
+            return ParallelLoader.readTasks(file);
+        } else {
+            return readTasksWithScanner(file);
+        }
+    }
+
+    //helper method to read every task in a text file line by line
+    private static ArrayList<Task> readTasksWithScanner(File file) throws FileNotFoundException, DukeException {
+        ArrayList<Task> taskList = new ArrayList<>();
+        Scanner sc = new Scanner(file);
+        while (sc.hasNext()) {
+            String line = sc.nextLine();
+            if (line.isEmpty() || line.startsWith(CHECKPOINT_PREFIX)) {
+                continue;
+            }
+            taskList.add(formatFileToTask(line));
+        }
+        sc.close();
+        return taskList;
+    }
+
+    //helper method to read the sequence number of the last journal record in the file,
+    //which is kept in the header of binary files and on the first line of text snapshots written in journal mode
+    private static long readCheckpoint(File file) throws IOException, DukeException {
+        if (BinaryTaskFormat.isBinaryFile(file)) {
+            return BinaryTaskFormat.readCheckpoint(file);
+        }
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line = reader.readLine();
+            if (line == null || !line.startsWith(CHECKPOINT_PREFIX)) {
+                return 0;
+            }
+            return Long.parseLong(line.substring(CHECKPOINT_PREFIX.length()).trim());
+        }
+    }
+
+    //helper method to give IDs to tasks read from a file of the old format, where the first
+    //column held the position of the task rather than an ID. Positions are unique, so they are
+    //kept as IDs and only missing or repeated ones are replaced, in the same way on every load
+    private static boolean migrateTaskIDs(ArrayList<Task> taskList) {
+        int[] oldIDs = new int[taskList.size()];
+        for (int i = 0; i < oldIDs.length; i++) {
+            oldIDs[i] = taskList.get(i).getID();
+        }
+        TaskList.assignMissingIDs(taskList);
+        for (int i = 0; i < oldIDs.length; i++) {
+            if (oldIDs[i] != taskList.get(i).getID()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //helper method to bring the loaded tasks up to date with the journal, noting the tasks it changed
+    //when asked to. The file is rewritten straight away when its tasks had to be migrated, when
+    //the journal is no longer used, or when the journal was left behind by a crash
+    private void recoverJournal(ArrayList<Task> taskList, long checkpoint, boolean isMigrated,
+            List<Task> replayedTasks) throws IOException, DukeException {
+        boolean hasJournal = journal.exists();
+        //replayed even when there is no journal, so that new records are numbered on from the checkpoint
+        boolean isIntact = journal.replay(taskList, checkpoint, replayedTasks);
+        if (mode != StorageMode.JOURNAL && (hasJournal || isMigrated)) {
+            overwriteStorage(taskList);
+            journal.discard();
+        } else if (mode == StorageMode.JOURNAL && (isMigrated || !isIntact || journal.hasPendingCompaction())) {
+            writeSnapshot(taskList, journal.rotate());
+            journal.finishCompaction();
+        }
+    }
+
+
+    /**
+     * Overwrites the data in the file by replacing it with a new file.
+     * The new file is written next to the old one and renamed over it, so a crash in the middle of a save
+     * leaves the last complete save behind. Whether the save is forced onto the disk follows the sync policy.
      *
      * @param taskList Current task list stored in the application.
      * @throws IOException Thrown when writing to file fails.
@@ -94,66 +388,678 @@ public class Storage{
     void overwriteStorage(ArrayList<Task> taskList) throws IOException{
         assert (this.file != null);
 
-        FileWriter fw = new FileWriter(this.file);
-        for (Task task: taskList){
-            switch (task.getType()) {
-                case TODO_TASK:
-                    fw.write(Task.getTaskID(task) + " / " +
-                            "ToDo" + " / " +
-                            task.getStorageStatusIcon() + " / " +
-                            task.getDescription() +
-                            System.lineSeparator());
-                    break;
-                case DEADLINE_TASK:
-                    fw.write(Task.getTaskID(task) + " / " +
-                            "Deadline" + " / " +
-                            task.getStorageStatusIcon() + " / " +
-                            task.getDescription() + " / " +
-                            ((Deadline) task).getDate() +
-                            System.lineSeparator());
-                    break;
-                case EVENT_TASK:
-                    fw.write(Task.getTaskID(task) + " / " +
-                            "Event" + " / " +
-                            task.getStorageStatusIcon() + " / " +
-                            task.getDescription() + " / " +
-                            ((Event) task).getDate() +
-                            System.lineSeparator());
+        writeSnapshot(taskList, 0);
+    }
+
+    /**
+     * Persists a task that was added to the end of the list.
+     * In journal mode the change is appended to the journal, which is compacted into the file
+     * in the background once it grows large enough. In write-behind mode the list is only marked
+     * as changed, and the file is rewritten in the background at most once per flush interval
+     * or number of changes. The other modes rewrite the file.
+     *
+     * @param taskList Current task list stored in the application.
+     * @param task Task that was added.
+     * @throws IOException Thrown when writing to file fails.
+     */
+    void recordAdd(ArrayList<Task> taskList, Task task) throws IOException {
+        long start = CommandMetrics.start();
+        isImageCurrent = false;
+        switch (mode) {
+            case JOURNAL:
+                journal.appendAdd(formatTaskToFile(task));
+                syncChangesUnlessBatched();
+                compactIfRequired(taskList);
+                break;
+            case WRITE_BEHIND:
+                markChanged(taskList);
+                break;
+            default:
+                overwriteUnlessBatched(taskList);
+        }
+        CommandMetrics.recordForCurrentCommand(Phase.SAVE, start);
+    }
+
+    /**
+     * Persists a task being marked as done, in the same way as an added task, except in in-place mode,
+     * where the status of the task is overwritten in the file at the position kept for it in the index file.
+     *
+     * @param taskList Current task list stored in the application.
+     * @param task Task that was marked as done.
+     * @throws IOException Thrown when writing to file fails.
+     */
+    void recordDone(ArrayList<Task> taskList, Task task) throws IOException {
+        long start = CommandMetrics.start();
+        isImageCurrent = false;
+        switch (mode) {
+            case JOURNAL:
+                journal.appendDone(task.getID());
+                syncChangesUnlessBatched();
+                compactIfRequired(taskList);
+                break;
+            case WRITE_BEHIND:
+                markChanged(taskList);
+                break;
+            case IN_PLACE:
+                if (batchedList == null && patchDone(task)) {
+                    syncChangesUnlessBatched();
+                } else {
+                    overwriteUnlessBatched(taskList);
+                }
+                break;
+            default:
+                overwriteUnlessBatched(taskList);
+        }
+        CommandMetrics.recordForCurrentCommand(Phase.SAVE, start);
+    }
+
+    /**
+     * Persists the removal of a task from the list, in the same way as an added task.
+     *
+     * @param taskList Current task list stored in the application.
+     * @param task Task that was removed.
+     * @throws IOException Thrown when writing to file fails.
+     */
+    void recordRemove(ArrayList<Task> taskList, Task task) throws IOException {
+        long start = CommandMetrics.start();
+        isImageCurrent = false;
+        switch (mode) {
+            case JOURNAL:
+                journal.appendDelete(task.getID());
+                syncChangesUnlessBatched();
+                compactIfRequired(taskList);
+                break;
+            case WRITE_BEHIND:
+                markChanged(taskList);
+                break;
+            default:
+                overwriteUnlessBatched(taskList);
+        }
+        CommandMetrics.recordForCurrentCommand(Phase.SAVE, start);
+    }
+
+    /**
+     * Persists the task list being put back the way it was after a transaction was rolled back.
+     * The changes of a transaction are only passed to the storage when it is committed, so only
+     * a flush in write-behind mode that copied the list during the transaction can have saved any of them.
+     *
+     * @param taskList Current task list stored in the application.
+     */
+    void recordRollback(ArrayList<Task> taskList) {
+        isImageCurrent = false;
+        if (mode == StorageMode.WRITE_BEHIND) {
+            markChanged(taskList);
+        }
+    }
+
+    /**
+     * Starts a batch of changes, which are saved together when the batch ends instead of one at a time.
+     * Batches can be nested, in which case the changes are saved when the outermost batch ends.
+     *
+     * @throws IOException Thrown when writing to the journal fails.
+     */
+    public void beginBatch() throws IOException {
+        batchDepth++;
+        if (mode == StorageMode.JOURNAL) {
+            journal.setBuffered(true);
+        }
+    }
+
+    /**
+     * Ends a batch of changes, saving them with a single write if it is the outermost batch.
+     *
+     * @throws IOException Thrown when writing to file fails.
+     */
+    public void endBatch() throws IOException {
+        assert batchDepth > 0;
+        batchDepth--;
+        if (batchDepth > 0) {
+            return;
+        }
+        long start = CommandMetrics.start();
+        ArrayList<Task> taskList = batchedList;
+        batchedList = null;
+        switch (mode) {
+            case JOURNAL:
+                journal.setBuffered(false);
+                syncChangesUnlessBatched();
+                if (taskList != null) {
+                    compactIfRequired(taskList);
+                }
+                break;
+            case WRITE_BEHIND:
+                flush();
+                break;
+            case IN_PLACE:
+                if (taskList != null) {
+                    overwriteStorage(taskList);
+                } else {
+                    syncChangesUnlessBatched();
+                }
+                break;
+            default:
+                if (taskList != null) {
+                    overwriteStorage(taskList);
+                }
+        }
+        CommandMetrics.recordForCurrentCommand(Phase.SAVE, start);
+    }
+
+    //helper method to force the journal records and the statuses overwritten in place onto the disk
+    //when the sync policy asks for it, which is left for the end of a batch so that the whole batch
+    //is forced at once
+    private void syncChangesUnlessBatched() throws IOException {
+        if (batchDepth > 0) {
+            return;
+        }
+        if (isSyncDue()) {
+            journal.force();
+            if (patchChannel != null) {
+                patchChannel.force(false);
+            }
+        } else {
+            syncLater();
+        }
+    }
+
+    //helper method to mark a task as done by overwriting the start of its record, up to its status,
+    //at the position the index gives for it. The bytes there are checked to be the record of the task
+    //before they are overwritten, so that an index which does not match the file is never trusted.
+    //Returns false when the task cannot be found this way, in which case the file has to be rewritten
+    private boolean patchDone(Task task) throws IOException {
+        long offset = findRecordOffset(task.getID());
+        if (offset < 0) {
+            return false;
+        }
+        StorageWriteEvent event = StorageWriteEvent.startWrite();
+        byte[] notDone;
+        byte[] done;
+        if (format == StorageFormat.BINARY) {
+            notDone = BinaryTaskFormat.formatRecordStart(task, false);
+            done = BinaryTaskFormat.formatRecordStart(task, true);
+        } else {
+            String line = formatTaskToFile(task);
+            String start = line.substring(0, getStatusIndex(line));
+            if (offset > 0) {
+                start = "\n" + start;
+                offset--;
+            }
+            notDone = (start + "0").getBytes(Charset.defaultCharset());
+            done = (start + "1").getBytes(Charset.defaultCharset());
+        }
+        if (patchChannel == null) {
+            patchChannel = FileChannel.open(this.file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        ByteBuffer found = ByteBuffer.allocate(notDone.length);
+        patchChannel.read(found, offset);
+        if (Arrays.equals(found.array(), done)) {
+            return true;
+        }
+        if (!Arrays.equals(found.array(), notDone) || done.length != notDone.length) {
+            return false;
+        }
+        discardImage();
+        ByteBuffer patch = ByteBuffer.wrap(done);
+        while (patch.hasRemaining()) {
+            patchChannel.write(patch, offset + patch.position());
+        }
+        event.finishPatch(this.file, done.length);
+        return true;
+    }
+
+    //helper method to find where the record of a task starts in the file, by a binary search
+    //of the index, whose entries are sorted by ID. Returns -1 if the task is not in the index
+    private long findRecordOffset(int taskID) {
+        if (index == null) {
+            return -1;
+        }
+        int low = 0;
+        int high = (index.capacity() - INDEX_HEADER_SIZE) / INDEX_ENTRY_SIZE - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int entry = INDEX_HEADER_SIZE + middle * INDEX_ENTRY_SIZE;
+            int id = index.getInt(entry);
+            if (id < taskID) {
+                low = middle + 1;
+            } else if (id > taskID) {
+                high = middle - 1;
+            } else {
+                return index.getLong(entry + Integer.BYTES);
+            }
+        }
+        return -1;
+    }
+
+    //helper method to write the index of where the record of each task starts, sorted by ID,
+    //behind a header holding the length of the file it was written for, and read it back for the
+    //patches that follow. It is replaced in one step, so that a crash never leaves half an index
+    private void writeIndex(List<Task> taskList, long[] recordOffsets) throws IOException {
+        long[] entries = new long[taskList.size()];
+        boolean isSorted = true;
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = (long) taskList.get(i).getID() << Integer.SIZE | i;
+            isSorted &= i == 0 || entries[i] > entries[i - 1];
+        }
+        if (!isSorted) {
+            Arrays.sort(entries);
+        }
+        File tempFile = new File(indexFile.getPath() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE));
+            out.writeLong(this.file.length());
+            for (long entry : entries) {
+                out.writeInt((int) (entry >>> Integer.SIZE));
+                out.writeLong(recordOffsets[(int) entry]);
+            }
+            out.flush();
+        }
+        Files.move(tempFile.toPath(), indexFile.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        index = readIndex();
+    }
+
+    //helper method to read the index file, or give null if there is none for the file as it is now.
+    //It is read into memory rather than mapped, so that writeIndex can replace the file on every platform
+    private ByteBuffer readIndex() throws IOException {
+        long size = indexFile.length();
+        if (size < INDEX_HEADER_SIZE || (size - INDEX_HEADER_SIZE) % INDEX_ENTRY_SIZE != 0
+                || size > Integer.MAX_VALUE) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile.toPath()));
+        return buffer.capacity() == size && buffer.getLong(0) == this.file.length() ? buffer : null;
+    }
+
+    //helper method to close the channel used for overwriting statuses, before the file is replaced
+    private void closePatchChannel() throws IOException {
+        if (patchChannel != null) {
+            patchChannel.close();
+            patchChannel = null;
+        }
+    }
+
+    //helper method to rewrite the file after a change, or only note the change while in a batch
+    private void overwriteUnlessBatched(ArrayList<Task> taskList) throws IOException {
+        if (batchDepth > 0) {
+            batchedList = taskList;
+        } else {
+            overwriteStorage(taskList);
+        }
+    }
+
+    /**
+     * Writes the changes not yet saved in write-behind mode to the file, waiting for the write to finish.
+     * Does nothing in the other modes, where every change is already saved.
+     *
+     * @throws IOException Thrown when writing to file fails.
+     */
+    public void flush() throws IOException {
+        synchronized (flushLock) {
+            ArrayList<Task> taskList;
+            synchronized (this) {
+                taskList = changedList;
+                changedList = null;
+                numUnflushedChanges = 0;
+            }
+            if (taskList == null) {
+                return;
+            }
+            ArrayList<Task> snapshot;
+            synchronized (taskList) {
+                snapshot = new ArrayList<>(taskList);
+            }
+            try {
+                writeSnapshot(snapshot, 0);
+            } catch (IOException e) {
+                markChanged(taskList);
+                throw e;
+            }
+        }
+    }
+
+    //helper method to note a change in write-behind mode. The list is written by the flusher,
+    //either on its next run or straight away once enough changes have piled up.
+    //The flusher and the hook saving the changes on exit are set up on the first change
+    private synchronized void markChanged(ArrayList<Task> taskList) {
+        if (flusher == null) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "duke-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flushInBackground,
+                    FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flushInBackground, "duke-flush-on-exit"));
+        }
+        changedList = taskList;
+        numUnflushedChanges++;
+        if (numUnflushedChanges == FLUSH_OPERATIONS) {
+            flusher.execute(this::flushInBackground);
+        }
+    }
+
+    //helper method to flush from a thread that has no caller to report a failed write to
+    private void flushInBackground() {
+        long start = CommandMetrics.start();
+        try {
+            flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        CommandMetrics.recordForCurrentCommand(Phase.SAVE, start);
+    }
+
+    //helper method to fold the journal into a new snapshot of the file in the background,
+    //once enough records have been appended. Only the copy of the list is made on the caller's thread.
+    //During a batch the list can be ahead of the journal, so compacting waits for the batch to end
+    private void compactIfRequired(ArrayList<Task> taskList) throws IOException {
+        if (journal.getNumRecords() < COMPACTION_THRESHOLD || isCompacting || journal.hasPendingCompaction()) {
+            return;
+        }
+        if (batchDepth > 0) {
+            batchedList = taskList;
+            return;
+        }
+        if (compactor == null) {
+            compactor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "duke-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        isCompacting = true;
+        ArrayList<Task> snapshot = new ArrayList<>(taskList);
+        long checkpoint = journal.rotate();
+        compactor.submit(() -> {
+            long start = CommandMetrics.start();
+            try {
+                writeSnapshot(snapshot, checkpoint);
+                journal.finishCompaction();
+                CommandMetrics.recordForCurrentCommand(Phase.SAVE, start);
+            } catch (IOException e) {
+                e.printStackTrace();
+            } finally {
+                isCompacting = false;
+            }
+        });
+    }
+
+    //helper method to write a snapshot tagged with the last journal record it contains,
+    //replacing the file only once the snapshot is complete
+    private void writeSnapshot(List<Task> taskList, long checkpoint) throws IOException {
+        StorageWriteEvent event = StorageWriteEvent.startWrite();
+        boolean isSynced = isSyncDue();
+        if (mode != StorageMode.JOURNAL) {
+            discardImage();
+        }
+        long[] recordOffsets = null;
+        if (mode == StorageMode.IN_PLACE) {
+            recordOffsets = new long[taskList.size()];
+            index = null;
+            closePatchChannel();
+        }
+        replaceFile(this.file, taskList, checkpoint, format, isSynced, recordOffsets);
+        if (recordOffsets != null) {
+            writeIndex(taskList, recordOffsets);
+        }
+        if (!isSynced) {
+            syncLater();
+        }
+        event.finishFile(this.file, taskList.size());
+    }
+
+    //helper method to write the tasks to a temporary file and rename it over the file, so that the file
+    //holds either the old or the new tasks whenever the application stops. When the write is synced,
+    //the temporary file is forced onto the disk before the rename and the rename is forced after it
+    private static void replaceFile(File file, List<Task> taskList, long checkpoint, StorageFormat format,
+            boolean isSynced, long[] recordOffsets) throws IOException {
+        File tempFile = new File(file.getPath() + ".tmp");
+        try {
+            writeFile(tempFile, taskList, checkpoint, format, isSynced, recordOffsets);
+            Files.move(tempFile.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            tempFile.delete();
+            throw e;
+        }
+        if (isSynced) {
+            forceDirectory(file);
+        }
+    }
+
+    //helper method to write the tasks in the given format through a buffer into the file's channel,
+    //noting where the record of each task starts when asked to
+    private static void writeFile(File file, List<Task> taskList, long checkpoint, StorageFormat format,
+            boolean isSynced, long[] recordOffsets) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            switch (format) {
+                case BINARY:
+                    BinaryTaskFormat.writeTasks(out, taskList, checkpoint, recordOffsets);
                     break;
                 default:
+                    writeTasks(out, taskList, checkpoint, recordOffsets);
+            }
+            out.flush();
+            if (isSynced) {
+                channel.force(false);
+            }
+        }
+    }
+
+    //helper method to force the entry of a renamed file onto the disk. Directories cannot be opened
+    //on every platform, in which case the rename is left to the file system
+    private static void forceDirectory(File file) {
+        try (FileChannel channel = FileChannel.open(file.getAbsoluteFile().getParentFile().toPath(),
+                StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            //not supported on this platform
+        }
+    }
+
+    //helper method to decide if a save is forced onto the disk straight away. In interval mode,
+    //only the first save of each interval is, and the saves after it are left to syncLater
+    private boolean isSyncDue() {
+        switch (syncPolicy) {
+            case ALWAYS:
+                return true;
+            case NEVER:
+                return false;
+            default:
+                synchronized (this) {
+                    long now = System.nanoTime();
+                    if (isSyncPending || now - lastSyncNanos < SYNC_INTERVAL_NANOS) {
+                        return false;
+                    }
+                    lastSyncNanos = now;
+                    return true;
+                }
+        }
+    }
+
+    //helper method to force the saves made since the last forced one onto the disk once the interval
+    //is up, from a background thread. Saves made while a sync is pending are covered by it,
+    //as it forces whatever the files hold when it runs
+    private synchronized void syncLater() {
+        if (syncPolicy != SyncPolicy.INTERVAL || isSyncPending) {
+            return;
+        }
+        if (syncer == null) {
+            syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "duke-syncer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        isSyncPending = true;
+        long delay = Math.max(0, lastSyncNanos + SYNC_INTERVAL_NANOS - System.nanoTime());
+        syncer.schedule(this::syncInBackground, delay, TimeUnit.NANOSECONDS);
+    }
+
+    //helper method to force the file and the journal from a thread that has no caller to report a failure to
+    private void syncInBackground() {
+        synchronized (this) {
+            isSyncPending = false;
+            lastSyncNanos = System.nanoTime();
+        }
+        try {
+            journal.force();
+            try (FileChannel channel = FileChannel.open(this.file.toPath(), StandardOpenOption.WRITE)) {
+                channel.force(false);
             }
+            forceDirectory(this.file);
+        } catch (NoSuchFileException e) {
+            //the file was moved away in the meantime, leaving nothing to force
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    //helper method to write every task on its own line, noting where each line starts when asked to.
+    //Text files only have a checkpoint line when they contain journal records, so that files
+    //written in rewrite mode keep their old layout
+    private static void writeTasks(OutputStream out, List<Task> taskList, long checkpoint, long[] recordOffsets)
+            throws IOException {
+        Charset charset = Charset.defaultCharset();
+        long position = 0;
+        if (checkpoint > 0) {
+            byte[] line = (CHECKPOINT_PREFIX + checkpoint + System.lineSeparator()).getBytes(charset);
+            out.write(line);
+            position += line.length;
+        }
+        for (int i = 0; i < taskList.size(); i++) {
+            if (recordOffsets != null) {
+                recordOffsets[i] = position;
+            }
+            byte[] line = (formatTaskToFile(taskList.get(i)) + System.lineSeparator()).getBytes(charset);
+            out.write(line);
+            position += line.length;
+        }
+    }
+
+    //helper method to find where the status of a task starts in its line, after the ID and the type
+    private static int getStatusIndex(String line) {
+        return line.indexOf(FIELD_SEPARATOR, line.indexOf(FIELD_SEPARATOR) + 1) + FIELD_SEPARATOR.length();
+    }
+
+    //helper method to convert a Task into the line written to the file, without the line separator
+    static String formatTaskToFile(Task task) {
+        int taskID = task.getID();
+        switch (task.getType()) {
+            case TODO_TASK:
+                return taskID + " / " +
+                        "ToDo" + " / " +
+                        task.getStorageStatusIcon() + " / " +
+                        task.getDescription();
+            case DEADLINE_TASK:
+                return taskID + " / " +
+                        "Deadline" + " / " +
+                        task.getStorageStatusIcon() + " / " +
+                        task.getDescription() + " / " +
+                        ((Deadline) task).getDate() +
+                        formatEpochField(task.getDateTime());
+            case EVENT_TASK:
+                return taskID + " / " +
+                        "Event" + " / " +
+                        task.getStorageStatusIcon() + " / " +
+                        task.getDescription() + " / " +
+                        ((Event) task).getDate() +
+                        formatEpochField(task.getDateTime());
+            default:
+                return "";
         }
-        fw.close();
     }
 
     //helper method to convert the written format of the task in the file
     //into a Task to be loaded back into storage
-    private Task formatFileToTask(String line) throws DukeException {
+    static Task formatFileToTask(String line) throws DukeException {
         assert line != null;
-        String[] tokens = line.split(" / ");
+        String[] tokens = splitFields(line);
+        Task task;
         switch(tokens[1]){
             case "ToDo":
-                ToDo toDoTask = new ToDo(tokens[3]);
-                if (tokens[2].equals("1")){
-                    toDoTask.setDone();
-                }
-                return toDoTask;
+                task = new ToDo(tokens[3]);
+                break;
             case "Deadline":
-                Deadline deadlineTask = new Deadline(tokens[3], tokens[4]);
-                if (tokens[2].equals("1")){
-                    deadlineTask.setDone();
-                }
-                return deadlineTask;
+                task = new Deadline(tokens[3], tokens[4], parseEpochField(tokens));
+                break;
             case "Event":
-                Event eventTask = new Event(tokens[3], tokens[4]);
-                if (tokens[2].equals("1")){
-                    eventTask.setDone();
-                }
-                return eventTask;
+                task = new Event(tokens[3], tokens[4], parseEpochField(tokens));
+                break;
             default:
                 throw new DukeException("Unknown task detected? Something is wrong.",
                         DukeExceptionType.TASK_NOT_FOUND);
         }
+        if (tokens[2].equals("1")){
+            task.setDone();
+        }
+        int taskID = parseTaskID(tokens[0]);
+        if (taskID > 0) {
+            task.setID(taskID);
+        }
+        return task;
+    }
+
+    //helper method to write the date and time of a task as an extra field holding its epoch second,
+    //which is left out for dates that were not recognised
+    private static String formatEpochField(LocalDateTime dateTime) {
+        return dateTime == null ? "" : FIELD_SEPARATOR + toEpochSecond(dateTime);
+    }
+
+    //helper method to read the epoch field after the date, which files written before dates
+    //were kept as epoch seconds do not have
+    private static LocalDateTime parseEpochField(String[] tokens) {
+        if (tokens.length < 6) {
+            return null;
+        }
+        try {
+            return fromEpochSecond(Long.parseLong(tokens[5].trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    //helper method to store a date and time, which has no time zone, as seconds since the epoch in UTC
+    static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    //helper method to read back a date and time stored by toEpochSecond
+    static LocalDateTime fromEpochSecond(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    //helper method to split a line at every field separator, without compiling a regular expression
+    //for every line. Like split(" / "), separators are matched from the left and never overlap,
+    //so " / / " holds a single separator. Unlike split, empty fields at the end are kept
+    private static String[] splitFields(String line) {
+        int numFields = 1;
+        for (int i = line.indexOf(FIELD_SEPARATOR); i >= 0;
+                i = line.indexOf(FIELD_SEPARATOR, i + FIELD_SEPARATOR.length())) {
+            numFields++;
+        }
+        String[] fields = new String[numFields];
+        int start = 0;
+        for (int i = 0; i < numFields - 1; i++) {
+            int end = line.indexOf(FIELD_SEPARATOR, start);
+            fields[i] = line.substring(start, end);
+            start = end + FIELD_SEPARATOR.length();
+        }
+        fields[numFields - 1] = line.substring(start);
+        return fields;
+    }
+
+    //helper method to read the ID column, which is left for migration to fill in when it is not a number
+    private static int parseTaskID(String token) {
+        try {
+            return Integer.parseInt(token.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
     }
 
 
@@ -0,0 +1,41 @@
+package duke.core;
+
+/**
+ * Represents the formats the task list can be saved in. TEXT is the readable " / " separated
+ * format kept in data.txt, while BINARY is the smaller and faster format kept in data.bin.
+ */
+public enum StorageFormat {
+    TEXT("data.txt"),
+    BINARY("data.bin");
+
+    private String fileName;
+
+    StorageFormat(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Returns the name of the data file saved in this format
+     *
+     * @return Name of the data file
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Returns the storage format selected through the duke.storage.format system property,
+     * defaulting to TEXT when the property is absent or not recognised
+     *
+     * @return Storage format to be used by the application
+     */
+    public static StorageFormat fromSystemProperty() {
+        String format = System.getProperty("duke.storage.format", "");
+        for (StorageFormat storageFormat : values()) {
+            if (storageFormat.name().equalsIgnoreCase(format)) {
+                return storageFormat;
+            }
+        }
+        return TEXT;
+    }
+}
@@ -0,0 +1,33 @@
+package duke.core;
+
+/**
+ * Represents the different ways the storage persists changes made to the task list.
+ * REWRITE rewrites the whole data file on every change, while JOURNAL appends one record
+ * per change to a journal which is periodically compacted into the data file.
+ * WRITE_BEHIND marks the task list as changed and rewrites the data file from a background
+ * thread, so that a burst of changes is saved with a single write.
+ * IN_PLACE rewrites the data file when tasks are added or removed, but marks a task as done
+ * by overwriting its status in the data file, found through an index of where each task is written.
+ */
+public enum StorageMode {
+    REWRITE,
+    JOURNAL,
+    WRITE_BEHIND,
+    IN_PLACE;
+
+    /**
+     * Returns the storage mode selected through the duke.storage.mode system property,
+     * defaulting to REWRITE when the property is absent or not recognised
+     *
+     * @return Storage mode to be used by the application
+     */
+    public static StorageMode fromSystemProperty() {
+        String mode = System.getProperty("duke.storage.mode", "");
+        for (StorageMode storageMode : values()) {
+            if (storageMode.name().equalsIgnoreCase(mode)) {
+                return storageMode;
+            }
+        }
+        return REWRITE;
+    }
+}
@@ -0,0 +1,31 @@
+package duke.core;
+
+/**
+ * Represents how often the storage forces what it writes onto the disk, trading the changes
+ * that can be lost on a power failure for the time each save takes.
+ * ALWAYS forces every save before it counts as done, INTERVAL forces at most once per sync interval
+ * so that a burst of changes shares a single force, and NEVER leaves writing to the operating system.
+ * Saves replace the data file in one step in every policy, so stopping Duke in the middle of a save
+ * never leaves a half-written file behind.
+ */
+public enum SyncPolicy {
+    ALWAYS,
+    INTERVAL,
+    NEVER;
+
+    /**
+     * Returns the sync policy selected through the duke.storage.sync system property,
+     * defaulting to INTERVAL when the property is absent or not recognised
+     *
+     * @return Sync policy to be used by the storage
+     */
+    public static SyncPolicy fromSystemProperty() {
+        String policy = System.getProperty("duke.storage.sync", "");
+        for (SyncPolicy syncPolicy : values()) {
+            if (syncPolicy.name().equalsIgnoreCase(policy)) {
+                return syncPolicy;
+            }
+        }
+        return INTERVAL;
+    }
+}
@@ -0,0 +1,65 @@
+package duke.core;
+
+import duke.tasks.Task;
+
+
+/**
+ * Represents a single change made to the task list during a transaction, which is either
+ * saved by the storage when the transaction is committed or undone when it is rolled back.
+ */
+class TaskChange {
+
+    /**
+     * Represents the different kinds of change
+     */
+    enum ChangeType {
+        ADD,
+        DONE,
+        REMOVE
+    }
+
+    private ChangeType type;
+    private Task task;
+    private int index;
+
+    /**
+     * Initialises the change made to a task
+     *
+     * @param type Kind of change
+     * @param task Task that was changed
+     * @param index Index the task was at when it was changed, from 1
+     */
+    TaskChange(ChangeType type, Task task, int index) {
+        this.type = type;
+        this.task = task;
+        this.index = index;
+        assert type != null && task != null && index > 0;
+    }
+
+    /**
+     * Returns the kind of change
+     *
+     * @return Kind of change
+     */
+    ChangeType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the task that was changed
+     *
+     * @return Task that was changed
+     */
+    Task getTask() {
+        return task;
+    }
+
+    /**
+     * Returns the index the task was at when it was changed
+     *
+     * @return Index of the task, from 1
+     */
+    int getIndex() {
+        return index;
+    }
+}
@@ -2,20 +2,39 @@ package duke.core;
 
 import java.util.List;
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
 
 import duke.tasks.Task;
 
+import duke.errors.DukeException;
+
 /**
  * Represents the task list used to store the tasks. Provides methods to add a task to the list,
- * getting a List, getting a task using the index and removing
- * a task based on the index specified, getting the size of the list, 
- * setting the done status of a task and getting the ID of a task
+ * getting a List, getting a task using the index or its ID and removing
+ * a task based on the index specified, getting the size of the list,
+ * setting the done status of a task and getting the position of a task.
+ * Every task is given a stable ID, and the list keeps the position of each ID and the indexes
+ * used to find tasks up to date. Any number of threads can read the list while one thread changes it.
  */
 public class TaskList {
 
     private ArrayList<Task> taskList;
     private Storage storage;
+    private HashMap<Integer, Integer> positions;
+    private int numValidPositions;
+    private int nextTaskID;
+    private KeywordIndex keywordIndex;
+    private TrigramIndex trigramIndex;
+    private TimeIndex timeIndex;
+    private ArrayList<TaskChange> transaction;
+    private final StampedLock lock = new StampedLock();
+    private final AtomicInteger numWaitingWriters = new AtomicInteger();
 
     /**
      * Initialises the TaskList, creates an ArrayList to store the tasks,
@@ -24,13 +43,13 @@ public class TaskList {
      * @param storage The main storage of the application.
      */
     public TaskList(Storage storage){
-        this.taskList = new ArrayList<>();
-        this.storage = storage;
+        this(new ArrayList<>(), storage);
     }
 
     /**
      * Initialises the TaskList, with a given ArrayList to store the tasks,
-     * and holds a reference to the main storage
+     * and holds a reference to the main storage.
+     * Tasks without a valid ID are given one.
      *
      * @param list List to initialise with
      * @param storage The main storage of the application.
@@ -38,40 +57,230 @@ public class TaskList {
     public TaskList(ArrayList<Task> list, Storage storage){
         this.taskList = list;
         this.storage = storage;
+        this.positions = new HashMap<>();
+        this.nextTaskID = assignMissingIDs(list) + 1;
+        this.keywordIndex = new KeywordIndex();
+        this.trigramIndex = new TrigramIndex();
+        this.timeIndex = new TimeIndex();
+        refreshPositions();
+        for (Task task : list) {
+            this.keywordIndex.addTask(task);
+            this.trigramIndex.addTask(task);
+            this.timeIndex.addTask(task);
+        }
     }
 
+    /**
+     * Initialises the TaskList from an image of the tasks and their indexes. The positions of the tasks
+     * are only worked out once they are first needed, and the tasks changed by journal records
+     * replayed on top of the image are indexed again.
+     *
+     * @param image Image of the task list
+     * @param storage The main storage of the application.
+     */
+    TaskList(TaskListImage image, Storage storage) {
+        this.taskList = image.getTasks();
+        this.storage = storage;
+        this.positions = new HashMap<>();
+        this.nextTaskID = image.getNextTaskID();
+        this.keywordIndex = image.getKeywordIndex();
+        this.trigramIndex = image.getTrigramIndex();
+        this.timeIndex = image.getTimeIndex();
+        if (image.getReplayedTasks().isEmpty()) {
+            return;
+        }
+        refreshPositions();
+        for (Task task : image.getReplayedTasks()) {
+            this.keywordIndex.removeTask(task);
+            this.trigramIndex.removeTask(task);
+            this.timeIndex.removeTask(task);
+        }
+        for (Task task : image.getReplayedTasks()) {
+            int position = getPositionOf(task.getID());
+            if (position >= 0 && this.taskList.get(position) == task) {
+                this.keywordIndex.addTask(task);
+                this.trigramIndex.addTask(task);
+                this.timeIndex.addTask(task);
+            }
+            this.nextTaskID = Math.max(this.nextTaskID, task.getID() + 1);
+        }
+    }
+
+    /**
+     * Loads the task list kept by the storage, from the image saved when the application last exited
+     * if it is up to date, or else from the data file.
+     *
+     * @param storage The main storage of the application.
+     * @return The loaded task list
+     * @throws DukeException Thrown when the data file cannot be loaded.
+     */
+    public static TaskList load(Storage storage) throws DukeException {
+        TaskListImage image = storage.loadImage();
+        if (image == null) {
+            return new TaskList(storage.load(), storage);
+        }
+        return new TaskList(image, storage);
+    }
 
     /**
-     * Adds a task to the task list.
+     * Saves any changes the storage has not written to file yet, then saves an image of the tasks and
+     * their indexes for the next start to load instead of the data file.
+     *
+     * @throws IOException Thrown when writing to file fails.
+     */
+    public void saveImage() throws IOException {
+        this.storage.flush();
+        long stamp = lockForReading();
+        try {
+            this.storage.writeImage(new TaskListImage(this.taskList, this.nextTaskID,
+                    this.keywordIndex, this.trigramIndex, this.timeIndex));
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Gives a new ID to every task whose ID is missing or already taken by an earlier task,
+     * which happens for tasks read from files written before tasks had IDs.
+     *
+     * @param list Tasks to be checked
+     * @return The largest ID in the list after the missing IDs are assigned
+     */
+    static int assignMissingIDs(List<Task> list) {
+        HashSet<Integer> usedIDs = new HashSet<>();
+        int largestID = 0;
+        for (Task task : list) {
+            largestID = Math.max(largestID, task.getID());
+        }
+        for (Task task : list) {
+            if (task.getID() <= 0 || !usedIDs.add(task.getID())) {
+                largestID++;
+                task.setID(largestID);
+                usedIDs.add(largestID);
+            }
+        }
+        return largestID;
+    }
+
+
+    /**
+     * Adds a task to the task list, giving it a new ID.
+     * Changes to the list also hold the lock of the underlying list, so that the storage can copy it
+     * from a background thread, and are only made from one thread, as the storage writes the list
+     * after each change without holding the stamped lock.
      *
      * @param task Task to be added.
      * @throws IOException Thrown when writing to file fails.
      */
     public void addToList(Task task) throws IOException {
-        this.taskList.add(task);
-        this.storage.overwriteStorage(taskList);
+        int index;
+        long stamp = lockForWriting();
+        try {
+            synchronized (this.taskList) {
+                task.setID(this.nextTaskID);
+                this.nextTaskID++;
+                if (this.numValidPositions == this.taskList.size()) {
+                    this.numValidPositions++;
+                }
+                this.positions.put(task.getID(), this.taskList.size());
+                this.taskList.add(task);
+                this.keywordIndex.addTask(task);
+                this.trigramIndex.addTask(task);
+                this.timeIndex.addTask(task);
+                index = this.taskList.size();
+            }
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+        recordChange(new TaskChange(TaskChange.ChangeType.ADD, task, index));
 
     }
 
 
     /**
-     * Returns a ArrayList of type Task.
+     * Returns a copy of the tasks in the list, which later changes to the list do not affect.
      *
      * @return An ArrayList of tasks.
      */
     public ArrayList<Task> getList(){
-        return this.taskList;
+        long stamp = lockForReading();
+        try {
+            return new ArrayList<>(this.taskList);
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
     }
 
 
     /**
      * Returns a task at specified index.
+     * The lock is not taken unless a change happened during the read, in which case the task is read
+     * again under the lock.
      *
      * @param index Index of task to be retrieved.
      * @return Task of the corresponding index.
      */
     public Task getTaskAt(int index){
-        return this.taskList.get(index - 1);
+        long stamp = this.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                Task task = this.taskList.get(index - 1);
+                if (this.lock.validate(stamp)) {
+                    return task;
+                }
+            } catch (IndexOutOfBoundsException error) {
+                if (this.lock.validate(stamp)) {
+                    throw error;
+                }
+            }
+        }
+        stamp = lockForReading();
+        try {
+            return this.taskList.get(index - 1);
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+
+    /**
+     * Returns a copy of the tasks on a page of the list together with the number of tasks in the list,
+     * both read under the lock so that a change made in the meantime cannot leave them out of step.
+     *
+     * @param from Position of the first task on the page, from 1
+     * @param size Largest number of tasks on the page
+     * @return Page of the list, holding no tasks if the list has no task at the first position
+     */
+    public Page getPage(int from, int size) {
+        assert from > 0 && size > 0;
+        long stamp = lockForReading();
+        try {
+            int numTasks = this.taskList.size();
+            if (from > numTasks) {
+                return new Page(new ArrayList<>(), numTasks);
+            }
+            int to = (int) Math.min(numTasks, (long) from + size - 1);
+            return new Page(new ArrayList<>(this.taskList.subList(from - 1, to)), numTasks);
+        } finally {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+
+    /**
+     * Returns the task with the specified ID, or null if there is no such task in the list.
+     *
+     * @param taskID ID of task to be retrieved.
+     * @return Task with the corresponding ID.
+     */
+    public Task getTaskByID(int taskID) {
+        long stamp = lockForPositions();
+        try {
+            int position = getPositionOf(taskID);
+            return position < 0 ? null : this.taskList.get(position);
+        } finally {
+            this.lock.unlock(stamp);
+        }
     }
 
 
@@ -82,22 +291,283 @@ public class TaskList {
      * @throws IOException Thrown when writing to file fails.
      */
     public void removeFromList(Task task) throws IOException {
-        boolean isRemoved = this.taskList.remove(task);
-        if (isRemoved) {
-            this.storage.overwriteStorage(taskList);
+        int index = getPosition(task);
+        if (index > 0) {
+            removeAt(index);
         }
     }
 
 
     /**
-     * Sets task at specified index to done
+     * Removes the task at specified index.
+     *
+     * @param index Index of task to be removed.
+     * @return Task that was removed.
+     * @throws IOException Thrown when writing to file fails.
+     */
+    public Task removeAt(int index) throws IOException {
+        Task task;
+        long stamp = lockForWriting();
+        try {
+            synchronized (this.taskList) {
+                task = this.taskList.remove(index - 1);
+                this.positions.remove(task.getID());
+                this.keywordIndex.removeTask(task);
+                this.trigramIndex.removeTask(task);
+                this.timeIndex.removeTask(task);
+                this.numValidPositions = Math.min(this.numValidPositions, index - 1);
+            }
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+        recordChange(new TaskChange(TaskChange.ChangeType.REMOVE, task, index));
+        return task;
+    }
+
+
+    /**
+     * Sets task at specified index to done, saving the change only if it was not done before
      *
      * @param index Index of task to be set as done
      * @throws IOException Thrown when writing to file fails.
      */
     public void setDoneInList(int index) throws IOException {
-        this.taskList.get(index - 1).setDone();
-        this.storage.overwriteStorage(taskList);
+        Task task;
+        boolean isDoneBefore;
+        long stamp = lockForWriting();
+        try {
+            synchronized (this.taskList) {
+                task = this.taskList.get(index - 1);
+                isDoneBefore = task.setDone();
+                this.timeIndex.removeTask(task);
+            }
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+        if (!isDoneBefore) {
+            recordChange(new TaskChange(TaskChange.ChangeType.DONE, task, index));
+        }
+    }
+
+    /**
+     * Removes the tasks at the specified indexes with a single pass over the list,
+     * saving the removals with a single write.
+     *
+     * @param indexes Indexes of the tasks to be removed, in increasing order without repeats.
+     * @return Tasks that were removed, in the order they were in the list.
+     * @throws IOException Thrown when writing to file fails.
+     */
+    public List<Task> removeAllAt(int[] indexes) throws IOException {
+        ArrayList<Task> removed = new ArrayList<>(indexes.length);
+        if (indexes.length == 0) {
+            return removed;
+        }
+        long stamp = lockForWriting();
+        try {
+            checkIndexes(indexes);
+            synchronized (this.taskList) {
+                int kept = indexes[0] - 1;
+                int next = 0;
+                for (int i = kept; i < this.taskList.size(); i++) {
+                    Task task = this.taskList.get(i);
+                    if (next < indexes.length && indexes[next] == i + 1) {
+                        removed.add(task);
+                        this.positions.remove(task.getID());
+                        this.timeIndex.removeTask(task);
+                        next++;
+                    } else {
+                        this.taskList.set(kept, task);
+                        kept++;
+                    }
+                }
+                this.taskList.subList(kept, this.taskList.size()).clear();
+                this.keywordIndex.removeTasks(removed);
+                this.trigramIndex.removeTasks(removed);
+                this.numValidPositions = Math.min(this.numValidPositions, indexes[0] - 1);
+            }
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+        //the removals are recorded from the last task back, as if the tasks were removed one at a time,
+        //so that undoing them in reverse puts every task back at its old index
+        this.storage.beginBatch();
+        try {
+            for (int i = removed.size() - 1; i >= 0; i--) {
+                recordChange(new TaskChange(TaskChange.ChangeType.REMOVE, removed.get(i), indexes[i]));
+            }
+        } finally {
+            this.storage.endBatch();
+        }
+        return removed;
+    }
+
+    /**
+     * Sets the tasks at the specified indexes to done, saving the changes with a single write.
+     * Tasks that are done already are left as they are.
+     *
+     * @param indexes Indexes of the tasks to be set as done, in increasing order without repeats.
+     * @return Tasks that were set as done, in the order they are in the list.
+     * @throws IOException Thrown when writing to file fails.
+     */
+    public List<Task> setDoneAllInList(int[] indexes) throws IOException {
+        ArrayList<Task> marked = new ArrayList<>();
+        if (indexes.length == 0) {
+            return marked;
+        }
+        int[] markedIndexes = new int[indexes.length];
+        long stamp = lockForWriting();
+        try {
+            checkIndexes(indexes);
+            synchronized (this.taskList) {
+                for (int index : indexes) {
+                    Task task = this.taskList.get(index - 1);
+                    if (!task.setDone()) {
+                        this.timeIndex.removeTask(task);
+                        markedIndexes[marked.size()] = index;
+                        marked.add(task);
+                    }
+                }
+            }
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+        this.storage.beginBatch();
+        try {
+            for (int i = 0; i < marked.size(); i++) {
+                recordChange(new TaskChange(TaskChange.ChangeType.DONE, marked.get(i), markedIndexes[i]));
+            }
+        } finally {
+            this.storage.endBatch();
+        }
+        return marked;
+    }
+
+    //helper method to check that every index is in the list before any task is changed
+    private void checkIndexes(int[] indexes) {
+        for (int i = 0; i < indexes.length; i++) {
+            assert i == 0 || indexes[i - 1] < indexes[i];
+        }
+        if (indexes[0] < 1 || indexes[indexes.length - 1] > this.taskList.size()) {
+            throw new IndexOutOfBoundsException("Index out of range for length " + this.taskList.size());
+        }
+    }
+
+    /**
+     * Starts a transaction, holding back the changes made to the list from the storage
+     * until the transaction is committed or rolled back
+     *
+     * @throws IOException Thrown when writing to file fails.
+     */
+    public void beginTransaction() throws IOException {
+        assert this.transaction == null;
+        this.storage.beginBatch();
+        this.transaction = new ArrayList<>();
+    }
+
+    /**
+     * Ends the transaction, saving every change made during it with a single write
+     *
+     * @throws IOException Thrown when writing to file fails.
+     */
+    public void commit() throws IOException {
+        assert this.transaction != null;
+        ArrayList<TaskChange> changes = this.transaction;
+        this.transaction = null;
+        try {
+            for (TaskChange change : changes) {
+                saveChange(change);
+            }
+        } finally {
+            this.storage.endBatch();
+        }
+    }
+
+    /**
+     * Ends the transaction, undoing every change made during it, latest first,
+     * so that the list and the file are left as they were before the transaction
+     *
+     * @throws IOException Thrown when writing to file fails.
+     */
+    public void rollback() throws IOException {
+        assert this.transaction != null;
+        ArrayList<TaskChange> changes = this.transaction;
+        this.transaction = null;
+        try {
+            long stamp = lockForWriting();
+            try {
+                synchronized (this.taskList) {
+                    for (int i = changes.size() - 1; i >= 0; i--) {
+                        undoChange(changes.get(i));
+                    }
+                }
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+            if (!changes.isEmpty()) {
+                this.storage.recordRollback(taskList);
+            }
+        } finally {
+            this.storage.endBatch();
+        }
+    }
+
+    //helper method to pass a change to the storage, or hold it back until the transaction ends
+    private void recordChange(TaskChange change) throws IOException {
+        if (this.transaction != null) {
+            this.transaction.add(change);
+        } else {
+            saveChange(change);
+        }
+    }
+
+    //helper method to pass a change to the storage
+    private void saveChange(TaskChange change) throws IOException {
+        switch (change.getType()) {
+            case ADD:
+                this.storage.recordAdd(taskList, change.getTask());
+                break;
+            case DONE:
+                this.storage.recordDone(taskList, change.getTask());
+                break;
+            default:
+                this.storage.recordRemove(taskList, change.getTask());
+        }
+    }
+
+    //helper method to undo a change. The changes after it have been undone already,
+    //so an added task is still the last one and a removed task goes back to its old index
+    private void undoChange(TaskChange change) {
+        Task task = change.getTask();
+        switch (change.getType()) {
+            case ADD:
+                this.taskList.remove(this.taskList.size() - 1);
+                this.positions.remove(task.getID());
+                this.keywordIndex.removeTask(task);
+                this.trigramIndex.removeTask(task);
+                this.timeIndex.removeTask(task);
+                this.numValidPositions = Math.min(this.numValidPositions, this.taskList.size());
+                break;
+            case DONE:
+                task.setNotDone();
+                this.timeIndex.addTask(task);
+                break;
+            default:
+                this.taskList.add(change.getIndex() - 1, task);
+                this.numValidPositions = Math.min(this.numValidPositions, change.getIndex() - 1);
+                this.positions.put(task.getID(), change.getIndex() - 1);
+                this.keywordIndex.addTask(task);
+                this.trigramIndex.addTask(task);
+                this.timeIndex.addTask(task);
+        }
+    }
+
+    /**
+     * Saves any changes to the list that the storage has not written to file yet
+     *
+     * @throws IOException Thrown when writing to file fails.
+     */
+    public void flush() throws IOException {
+        this.storage.flush();
     }
 
     /**
@@ -105,27 +575,120 @@ public class TaskList {
      *
      * @return Number of tasks in current list
      */
-    int getNumTasks(){
-        return this.taskList.size();
+    public int getNumTasks(){
+        long stamp = this.lock.tryOptimisticRead();
+        int numTasks = this.taskList.size();
+        if (!this.lock.validate(stamp)) {
+            stamp = lockForReading();
+            try {
+                numTasks = this.taskList.size();
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+        return numTasks;
     }
 
     /**
      * Returns the position of the specified task in current list
      *
-     * @return Position of the specified task in current list
+     * @return Position of the specified task in current list, or 0 if it is not in the list
      */
-    public int getTaskID(Task task) {
-        return taskList.indexOf(task) + 1;
+    public int getPosition(Task task) {
+        long stamp = lockForPositions();
+        try {
+            int position = getPositionOf(task.getID());
+            return position >= 0 && this.taskList.get(position) == task ? position + 1 : 0;
+        } finally {
+            this.lock.unlock(stamp);
+        }
+    }
+
+    //helper method to lock the list for changing it, letting the readers know that a change is waiting
+    private long lockForWriting() {
+        this.numWaitingWriters.incrementAndGet();
+        try {
+            return this.lock.writeLock();
+        } finally {
+            this.numWaitingWriters.decrementAndGet();
+        }
+    }
+
+    //helper method to lock the list for reading. A stamped lock does not hold back new readers while
+    //a change is waiting, so readers taking turns could keep the change waiting indefinitely.
+    //New readers therefore give way until the waiting changes have been made
+    private long lockForReading() {
+        while (this.numWaitingWriters.get() > 0) {
+            Thread.yield();
+        }
+        return this.lock.readLock();
+    }
+
+    //helper method to lock the list for reading with the map of positions up to date. When tasks were
+    //removed in front of others the map has to be brought up to date first, for which the lock is
+    //converted into the write lock. Returns the stamp the lock is to be released with
+    private long lockForPositions() {
+        long stamp = lockForReading();
+        if (this.numValidPositions == this.taskList.size()) {
+            return stamp;
+        }
+        long writeStamp = this.lock.tryConvertToWriteLock(stamp);
+        if (writeStamp == 0) {
+            this.lock.unlockRead(stamp);
+            writeStamp = lockForWriting();
+        }
+        refreshPositions();
+        return writeStamp;
+    }
+
+    //helper method to look up the index of the task with the given ID, or -1 if there is no such task.
+    //The caller holds the lock from lockForPositions, so the map is up to date
+    private int getPositionOf(int taskID) {
+        Integer position = this.positions.get(taskID);
+        return position == null ? -1 : position;
+    }
+
+    //helper method to recompute the positions of the tasks that have shifted after a removal.
+    //Removals only mark the map as stale, so a run of deletions costs a single pass
+    private void refreshPositions() {
+        for (int i = this.numValidPositions; i < this.taskList.size(); i++) {
+            this.positions.put(this.taskList.get(i).getID(), i);
+        }
+        this.numValidPositions = this.taskList.size();
     }
 
 
     /**
-     * Returns a list of tasks containing the specific keyword
+     * Returns a list of tasks containing the specific keyword.
+     * Keywords of three characters or more only check the tasks sharing all of their trigrams,
+     * while shorter keywords have no trigram to look up and check every task, as do keywords
+     * shared by so many tasks that checking every task is cheaper.
      *
      * @return List of tasks containing the specific keyword
      */
     public List<Task> findTasks(String word) {
+        long stamp = lockForPositions();
+        try {
+            return findTasksLocked(word);
+        } finally {
+            this.lock.unlock(stamp);
+        }
+    }
+
+    //helper method to find the tasks containing the keyword while the list is locked
+    private List<Task> findTasksLocked(String word) {
         ArrayList<Task> lst= new ArrayList<>();
+        if (word.length() >= TrigramIndex.TRIGRAM_LENGTH) {
+            PostingList candidates = this.trigramIndex.findCandidates(word);
+            if (candidates.size() * 4 < this.taskList.size()) {
+                for (Task task : getTasksWithIDs(candidates)) {
+                    if (task.getDescription().contains(word)) {
+                        lst.add(task);
+                    }
+                }
+                return lst;
+            }
+        }
         for (Task task: taskList) {
             if (task.getDescription().contains(word)) {
                 lst.add(task);
@@ -134,6 +697,111 @@ public class TaskList {
         return lst;
     }
 
+    /**
+     * Returns a list of tasks whose description contains every one of the given words,
+     * using the word index so that only the tasks containing the words are looked at
+     *
+     * @param words Whole words to be searched for
+     * @return List of tasks containing all of the words, in the order they appear in the list
+     */
+    public List<Task> findTasksWithWords(List<String> words) {
+        long stamp = lockForPositions();
+        try {
+            return getTasksWithIDs(this.keywordIndex.findAll(words));
+        } finally {
+            this.lock.unlock(stamp);
+        }
+    }
 
-}
+    /**
+     * Returns the pending tasks due or happening at or after the given date and time,
+     * earliest first
+     *
+     * @param from Earliest date and time to be included
+     * @param count Largest number of tasks to be returned
+     * @return List of at most count tasks, ordered by their date and time
+     */
+    public List<Task> findUpcoming(LocalDateTime from, int count) {
+        long stamp = lockForPositions();
+        try {
+            return getTasksInOrder(this.timeIndex.findFrom(from, count));
+        } finally {
+            this.lock.unlock(stamp);
+        }
+    }
 
+    /**
+     * Returns the pending tasks due or happening between the two dates and times, both included,
+     * earliest first
+     *
+     * @param start Earliest date and time to be included
+     * @param end Latest date and time to be included
+     * @return List of tasks, ordered by their date and time
+     */
+    public List<Task> findDueBetween(LocalDateTime start, LocalDateTime end) {
+        long stamp = lockForPositions();
+        try {
+            return getTasksInOrder(this.timeIndex.findBetween(start, end));
+        } finally {
+            this.lock.unlock(stamp);
+        }
+    }
+
+    //helper method to turn IDs into tasks, keeping the order of the IDs
+    private List<Task> getTasksInOrder(List<Integer> taskIDs) {
+        ArrayList<Task> lst = new ArrayList<>(taskIDs.size());
+        for (int taskID : taskIDs) {
+            lst.add(this.taskList.get(getPositionOf(taskID)));
+        }
+        return lst;
+    }
+
+    //helper method to turn the matched IDs into tasks, ordered by their position in the list
+    private List<Task> getTasksWithIDs(PostingList taskIDs) {
+        int[] matchPositions = new int[taskIDs.size()];
+        for (int i = 0; i < matchPositions.length; i++) {
+            matchPositions[i] = getPositionOf(taskIDs.get(i));
+        }
+        Arrays.sort(matchPositions);
+        ArrayList<Task> lst = new ArrayList<>(matchPositions.length);
+        for (int position : matchPositions) {
+            lst.add(this.taskList.get(position));
+        }
+        return lst;
+    }
+
+    /**
+     * Represents a page of the task list copied out at one moment, which later changes to the list
+     * do not affect
+     */
+    public static class Page {
+
+        private final List<Task> tasks;
+        private final int numTasks;
+
+        private Page(List<Task> tasks, int numTasks) {
+            this.tasks = tasks;
+            this.numTasks = numTasks;
+        }
+
+        /**
+         * getter for tasks on the page
+         *
+         * @return tasks on the page, in the order of the list
+         */
+        public List<Task> getTasks() {
+            return tasks;
+        }
+
+        /**
+         * getter for number of tasks in the list when the page was copied
+         *
+         * @return number of tasks in the whole list
+         */
+        public int getNumTasks() {
+            return numTasks;
+        }
+    }
+
+
+}
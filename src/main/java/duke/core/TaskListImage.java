@@ -0,0 +1,214 @@
+package duke.core;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.tasks.Task;
+
+import duke.errors.DukeException;
+
+
+/**
+ * Represents an image of the task list in memory: its tasks together with the indexes built over them,
+ * so that a long list can be loaded without parsing the data file and rebuilding every index.
+ * The image file starts with a header holding a magic number, the version of the format, the length
+ * and modification time of the data file it was taken with, the sequence number of the last journal
+ * record it contains and the next ID to be handed out. The tasks follow as records of the binary data
+ * file, then the keyword, trigram and time indexes, and the magic number once more to mark the end.
+ * An image is only used while it is up to date with the data file, which is when the data file is
+ * unchanged since the image was taken, or when the data file was written from the journal at a record
+ * the image already contains. Journal records newer than the image are replayed on top of it.
+ */
+class TaskListImage {
+
+    static final int MAGIC = 0x44554B49;
+    static final byte VERSION = 1;
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private ArrayList<Task> tasks;
+    private int nextTaskID;
+    private long sequence;
+    private KeywordIndex keywordIndex;
+    private TrigramIndex trigramIndex;
+    private TimeIndex timeIndex;
+    private List<Task> replayedTasks;
+
+    /**
+     * Initialises the image of a task list
+     *
+     * @param tasks Tasks in the list, in order
+     * @param nextTaskID ID to be given to the next task added to the list
+     * @param keywordIndex Index of the words in the task descriptions
+     * @param trigramIndex Index of the trigrams in the task descriptions
+     * @param timeIndex Index of the pending tasks by their date and time
+     */
+    TaskListImage(ArrayList<Task> tasks, int nextTaskID, KeywordIndex keywordIndex, TrigramIndex trigramIndex,
+            TimeIndex timeIndex) {
+        this.tasks = tasks;
+        this.nextTaskID = nextTaskID;
+        this.keywordIndex = keywordIndex;
+        this.trigramIndex = trigramIndex;
+        this.timeIndex = timeIndex;
+        this.replayedTasks = new ArrayList<>();
+    }
+
+    /**
+     * getter for the tasks in the image
+     *
+     * @return Tasks in the list, in order
+     */
+    ArrayList<Task> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * getter for the ID to be given to the next task added to the list
+     *
+     * @return Next task ID
+     */
+    int getNextTaskID() {
+        return nextTaskID;
+    }
+
+    /**
+     * getter for the sequence number of the last journal record contained in the image
+     *
+     * @return Sequence number of the last record, or 0 if it contains none
+     */
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * getter for the index of the words in the task descriptions
+     *
+     * @return Keyword index of the tasks in the image
+     */
+    KeywordIndex getKeywordIndex() {
+        return keywordIndex;
+    }
+
+    /**
+     * getter for the index of the trigrams in the task descriptions
+     *
+     * @return Trigram index of the tasks in the image
+     */
+    TrigramIndex getTrigramIndex() {
+        return trigramIndex;
+    }
+
+    /**
+     * getter for the index of the pending tasks by their date and time
+     *
+     * @return Time index of the tasks in the image
+     */
+    TimeIndex getTimeIndex() {
+        return timeIndex;
+    }
+
+    /**
+     * Returns the tasks added, marked as done or removed by the journal records replayed on top
+     * of the image, whose entries in the indexes have yet to be brought up to date
+     *
+     * @return Tasks changed since the image was taken, which are filled in by the replay
+     */
+    List<Task> getReplayedTasks() {
+        return replayedTasks;
+    }
+
+    /**
+     * Writes the image to a temporary file and renames it over the image file, so that the image file
+     * is always complete. The image only saves loading time, so it is not forced onto the disk.
+     *
+     * @param imageFile File the image is written to
+     * @param dataFile Data file holding the same tasks as the image
+     * @param sequence Sequence number of the last journal record contained in the image
+     * @throws IOException Thrown when writing to file fails.
+     */
+    void write(File imageFile, File dataFile, long sequence) throws IOException {
+        File tempFile = new File(imageFile.getPath() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tempFile), WRITE_BUFFER_SIZE))) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeLong(dataFile.length());
+                out.writeLong(dataFile.lastModified());
+                out.writeLong(sequence);
+                out.writeInt(nextTaskID);
+                out.writeInt(tasks.size());
+                for (Task task : tasks) {
+                    BinaryTaskFormat.writeTask(out, task);
+                }
+                keywordIndex.writeTo(out);
+                trigramIndex.writeTo(out);
+                timeIndex.writeTo(out);
+                out.writeInt(MAGIC);
+            }
+            Files.move(tempFile.toPath(), imageFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            tempFile.delete();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the image from the image file, if the image is up to date with the data file.
+     * The file is read in one go rather than mapped, so that it can be replaced or deleted
+     * as soon as the image has been read, even on Windows.
+     *
+     * @param imageFile File holding the image
+     * @param dataFile Data file the image has to be up to date with
+     * @param checkpoint Sequence number of the last journal record contained in the data file
+     * @return The image read, or null if there is no image or it is not up to date
+     * @throws IOException Thrown when the image file cannot be read.
+     * @throws DukeException Thrown when the image holds a record of an unknown type.
+     */
+    static TaskListImage read(File imageFile, File dataFile, long checkpoint) throws IOException, DukeException {
+        if (!imageFile.exists()) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(imageFile.toPath()));
+        try {
+            if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+                return null;
+            }
+            long dataLength = buffer.getLong();
+            long dataLastModified = buffer.getLong();
+            long sequence = buffer.getLong();
+            boolean isDataUnchanged = dataLength == dataFile.length() && dataLastModified == dataFile.lastModified();
+            boolean isDataFromJournal = checkpoint > 0 && checkpoint <= sequence;
+            if (!isDataUnchanged && !isDataFromJournal) {
+                return null;
+            }
+            int nextTaskID = buffer.getInt();
+            int numTasks = buffer.getInt();
+            ArrayList<Task> tasks = new ArrayList<>(Math.max(numTasks, 0));
+            for (int i = 0; i < numTasks; i++) {
+                tasks.add(BinaryTaskFormat.readTask(buffer));
+            }
+            KeywordIndex keywordIndex = KeywordIndex.readFrom(buffer);
+            TrigramIndex trigramIndex = TrigramIndex.readFrom(buffer);
+            TimeIndex timeIndex = TimeIndex.readFrom(buffer);
+            if (buffer.getInt() != MAGIC || buffer.hasRemaining()) {
+                return null;
+            }
+            TaskListImage image = new TaskListImage(tasks, nextTaskID, keywordIndex, trigramIndex, timeIndex);
+            image.sequence = sequence;
+            return image;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package duke.core;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import duke.tasks.Task;
+
+
+/**
+ * Represents an index of the tasks that are not done yet and have a recognised date and time,
+ * ordered by that date and time. Finding the tasks in a range of time only walks the range itself,
+ * instead of every task in the list.
+ * The index can be written out with the image of the task list and read back from there.
+ */
+class TimeIndex {
+
+    private TreeMap<Long, PostingList> postings;
+
+    /**
+     * Initialises an empty time index
+     */
+    TimeIndex() {
+        this.postings = new TreeMap<>();
+    }
+
+    /**
+     * Reads an index written by writeTo
+     *
+     * @param buffer Buffer holding the index, which is left positioned after it
+     * @return The index read
+     * @throws BufferUnderflowException Thrown when the buffer ends before the index does
+     */
+    static TimeIndex readFrom(ByteBuffer buffer) {
+        int numTimes = buffer.getInt();
+        TimeIndex index = new TimeIndex();
+        for (int i = 0; i < numTimes; i++) {
+            long key = buffer.getLong();
+            index.postings.put(key, PostingList.readFrom(buffer));
+        }
+        return index;
+    }
+
+    /**
+     * Writes the number of dates and times in the index, followed by each of them, earliest first,
+     * and its posting list
+     *
+     * @param out Stream the index is written to
+     * @throws IOException Thrown when writing to the stream fails
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(postings.size());
+        for (Map.Entry<Long, PostingList> posting : postings.entrySet()) {
+            out.writeLong(posting.getKey());
+            posting.getValue().writeTo(out);
+        }
+    }
+
+    /**
+     * Adds the task to the index, if it is not done yet and has a date and time
+     *
+     * @param task Task to be indexed
+     */
+    void addTask(Task task) {
+        LocalDateTime dateTime = task.getDateTime();
+        if (dateTime == null || task.getDoneStatus()) {
+            return;
+        }
+        postings.computeIfAbsent(toKey(dateTime), key -> new PostingList()).add(task.getID());
+    }
+
+    /**
+     * Removes the task from the index, if it is in the index
+     *
+     * @param task Task to be removed from the index
+     */
+    void removeTask(Task task) {
+        LocalDateTime dateTime = task.getDateTime();
+        if (dateTime == null) {
+            return;
+        }
+        Long key = toKey(dateTime);
+        PostingList posting = postings.get(key);
+        if (posting != null && posting.remove(task.getID()) && posting.size() == 0) {
+            postings.remove(key);
+        }
+    }
+
+    /**
+     * Returns the IDs of the first tasks at or after the given date and time
+     *
+     * @param from Earliest date and time to be included
+     * @param count Largest number of IDs to be returned
+     * @return IDs of the tasks, ordered by their date and time
+     */
+    List<Integer> findFrom(LocalDateTime from, int count) {
+        List<Integer> taskIDs = new ArrayList<>();
+        for (PostingList posting : postings.tailMap(toKey(from), true).values()) {
+            for (int i = 0; i < posting.size() && taskIDs.size() < count; i++) {
+                taskIDs.add(posting.get(i));
+            }
+            if (taskIDs.size() == count) {
+                break;
+            }
+        }
+        return taskIDs;
+    }
+
+    /**
+     * Returns the IDs of the tasks from the start to the end date and time, both included
+     *
+     * @param start Earliest date and time to be included
+     * @param end Latest date and time to be included
+     * @return IDs of the tasks, ordered by their date and time
+     */
+    List<Integer> findBetween(LocalDateTime start, LocalDateTime end) {
+        List<Integer> taskIDs = new ArrayList<>();
+        for (PostingList posting : postings.subMap(toKey(start), true, toKey(end), true).values()) {
+            for (int i = 0; i < posting.size(); i++) {
+                taskIDs.add(posting.get(i));
+            }
+        }
+        return taskIDs;
+    }
+
+    //helper method to key the index by the seconds since the epoch, treating the time as UTC
+    //since the dates entered have no time zone
+    private static long toKey(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,154 @@
+package duke.core;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import duke.tasks.Task;
+
+
+/**
+ * Represents an index from every run of three characters (trigram) in the task descriptions
+ * to the IDs of the tasks containing it. A description containing a keyword must contain every
+ * trigram of the keyword, so intersecting their posting lists narrows a substring search down to
+ * a few candidates, which are then checked against the keyword itself.
+ * Building the index is the slowest part of loading a long list, so it is written out with
+ * the image of the task list and read back from there when the image is up to date.
+ */
+class TrigramIndex {
+
+    static final int TRIGRAM_LENGTH = 3;
+
+    private HashMap<Long, PostingList> postings;
+
+    /**
+     * Initialises an empty trigram index
+     */
+    TrigramIndex() {
+        this.postings = new HashMap<>();
+    }
+
+    /**
+     * Reads an index written by writeTo
+     *
+     * @param buffer Buffer holding the index, which is left positioned after it
+     * @return The index read
+     * @throws BufferUnderflowException Thrown when the buffer ends before the index does
+     */
+    static TrigramIndex readFrom(ByteBuffer buffer) {
+        int numTrigrams = buffer.getInt();
+        TrigramIndex index = new TrigramIndex();
+        index.postings = new HashMap<>(Math.max(numTrigrams, 0) * 4 / 3 + 1);
+        for (int i = 0; i < numTrigrams; i++) {
+            long trigram = buffer.getLong();
+            index.postings.put(trigram, PostingList.readFrom(buffer));
+        }
+        return index;
+    }
+
+    /**
+     * Writes the number of trigrams in the index, followed by each packed trigram and its posting list
+     *
+     * @param out Stream the index is written to
+     * @throws IOException Thrown when writing to the stream fails
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(postings.size());
+        for (Map.Entry<Long, PostingList> posting : postings.entrySet()) {
+            out.writeLong(posting.getKey());
+            posting.getValue().writeTo(out);
+        }
+    }
+
+    /**
+     * Adds every trigram of the description of the task to the index
+     *
+     * @param task Task to be indexed
+     */
+    void addTask(Task task) {
+        String description = task.getDescription();
+        for (int i = 0; i + TRIGRAM_LENGTH <= description.length(); i++) {
+            postings.computeIfAbsent(getTrigramAt(description, i), key -> new PostingList()).add(task.getID());
+        }
+    }
+
+    /**
+     * Removes the task from the posting list of every trigram of its description
+     *
+     * @param task Task to be removed from the index
+     */
+    void removeTask(Task task) {
+        String description = task.getDescription();
+        for (int i = 0; i + TRIGRAM_LENGTH <= description.length(); i++) {
+            Long trigram = getTrigramAt(description, i);
+            PostingList posting = postings.get(trigram);
+            if (posting != null && posting.remove(task.getID()) && posting.size() == 0) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes several tasks from the index at once. The IDs to be removed are grouped by trigram first,
+     * so that each posting list is compacted in a single pass instead of once for every task
+     *
+     * @param tasks Tasks to be removed from the index
+     */
+    void removeTasks(List<Task> tasks) {
+        HashMap<Long, PostingList> removals = new HashMap<>();
+        for (Task task : tasks) {
+            String description = task.getDescription();
+            for (int i = 0; i + TRIGRAM_LENGTH <= description.length(); i++) {
+                removals.computeIfAbsent(getTrigramAt(description, i), key -> new PostingList()).add(task.getID());
+            }
+        }
+        for (Map.Entry<Long, PostingList> removal : removals.entrySet()) {
+            PostingList posting = postings.get(removal.getKey());
+            if (posting != null) {
+                posting.removeAll(removal.getValue());
+                if (posting.size() == 0) {
+                    postings.remove(removal.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the IDs of the tasks whose description contains every trigram of the keyword.
+     * These are only candidates, as the trigrams may appear apart from each other.
+     *
+     * @param keyword Keyword of at least three characters
+     * @return IDs of the candidate tasks, in increasing order
+     */
+    PostingList findCandidates(String keyword) {
+        assert keyword.length() >= TRIGRAM_LENGTH;
+        List<PostingList> matches = new ArrayList<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= keyword.length(); i++) {
+            PostingList posting = postings.get(getTrigramAt(keyword, i));
+            if (posting == null) {
+                return new PostingList();
+            }
+            matches.add(posting);
+        }
+        matches.sort(Comparator.comparingInt(PostingList::size));
+        PostingList result = matches.get(0);
+        for (int i = 1; i < matches.size() && result.size() > 0; i++) {
+            result = result.intersect(matches.get(i));
+        }
+        return result;
+    }
+
+    //helper method to pack the three characters starting at the index into a single key,
+    //so that no substring has to be created for each trigram
+    private static Long getTrigramAt(String text, int index) {
+        return ((long) text.charAt(index) << 32)
+                | ((long) text.charAt(index + 1) << 16)
+                | text.charAt(index + 2);
+    }
+}
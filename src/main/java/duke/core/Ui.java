@@ -1,19 +1,32 @@
 package duke.core;
 
+import java.net.SocketAddress;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 
+import duke.metrics.CommandEvent;
+import duke.metrics.CommandMetrics;
+import duke.metrics.Phase;
+
 import duke.tasks.Task;
 
 
 /**
  * Represents the user interface of the application. Provides methods for reading input
  * and printing output to the console.
+ * The list of tasks is shown a page at a time, and the user interface remembers where the last page
+ * ended so that the next page can follow on from it.
  */
 public class Ui {
 
+    private static final int MAX_KEPT_BUFFER_SIZE = 1 << 16;
+    private static final int MAX_BULK_TASKS_SHOWN = 10;
+
     private Scanner sc = new Scanner(System.in);
+    private StringBuilder listBuffer = new StringBuilder();
+    private int listCursor = 1;
+    private int listPageSize;
 
 
     /**
@@ -87,6 +100,60 @@ public class Ui {
     }
 
 
+    /**
+     * Prints out the message when several tasks are deleted together, along with the first few of them.
+     *
+     * @param tasks Tasks that were deleted.
+     * @param taskList Task list that the tasks were removed from.
+     * @return String message to be printed.
+     */
+    public String printBulkDeletion(List<Task> tasks, TaskList taskList) {
+        CommandEvent event = CommandEvent.startPhase();
+        long start = CommandMetrics.start();
+        StringBuilder builder = new StringBuilder();
+        appendWithNewline(builder, "Noted. I've removed " + countTasks(tasks.size()) + ":");
+        appendFirstTasks(builder, tasks);
+        appendWithNewline(builder, "Now you have " + taskList.getNumTasks() + " tasks in the list.");
+        CommandMetrics.recordForCurrentCommand(Phase.RENDER, start);
+        event.finishForCurrentCommand(Phase.RENDER, tasks.size());
+        return builder.toString();
+    }
+
+    /**
+     * Prints out the message when several tasks are marked as done together, along with the first few of them.
+     *
+     * @param tasks Tasks that were marked as done, without those that were done already.
+     * @return String message to be printed.
+     */
+    public String printBulkDone(List<Task> tasks) {
+        CommandEvent event = CommandEvent.startPhase();
+        long start = CommandMetrics.start();
+        StringBuilder builder = new StringBuilder();
+        appendWithNewline(builder, "Nice! I've marked " + countTasks(tasks.size()) + " as done:");
+        appendFirstTasks(builder, tasks);
+        CommandMetrics.recordForCurrentCommand(Phase.RENDER, start);
+        event.finishForCurrentCommand(Phase.RENDER, tasks.size());
+        return builder.toString();
+    }
+
+    //helper method to append the first few tasks of a bulk change, one per line
+    private void appendFirstTasks(StringBuilder builder, List<Task> tasks) {
+        int shown = Math.min(tasks.size(), MAX_BULK_TASKS_SHOWN);
+        for (int i = 0; i < shown; i++) {
+            builder.append("  ");
+            tasks.get(i).appendTo(builder);
+            builder.append('\n');
+        }
+        if (tasks.size() > shown) {
+            appendWithNewline(builder, "  ...and " + (tasks.size() - shown) + " more");
+        }
+    }
+
+    //helper method to describe a number of tasks
+    private static String countTasks(int numTasks) {
+        return numTasks == 1 ? "1 task" : numTasks + " tasks";
+    }
+
     /**
      * Prints a list of string in the correct format
      *
@@ -124,15 +191,75 @@ public class Ui {
      * @return String message to be printed.
      */
     public String printNumberList(TaskList taskList) {
+        return printTaskPage(taskList, 1, Math.max(1, taskList.getNumTasks()));
+    }
 
-        StringBuilder builder = new StringBuilder();
+    /**
+     * Prints a page of the list of tasks, with a line telling which tasks are shown
+     * unless the page holds the whole list. The next page starts after the last task shown.
+     * The page is copied out of the list at once, so that tasks removed meanwhile cannot cut it short.
+     *
+     * @param taskList List of tasks stored in the application
+     * @param from Position of the first task to be shown, from 1
+     * @param size Largest number of tasks to be shown
+     * @return String message to be printed.
+     */
+    public String printTaskPage(TaskList taskList, int from, int size) {
+        assert from > 0 && size > 0;
+        TaskList.Page page = taskList.getPage(from, size);
+        int numTasks = page.getNumTasks();
+        if (numTasks == 0) {
+            this.listCursor = 1;
+            this.listPageSize = size;
+            return "Here are the tasks in your list:\n";
+        }
+        if (from > numTasks) {
+            return printOneLine("There are only " + numTasks + " tasks in your list.");
+        }
+        CommandEvent event = CommandEvent.startPhase();
+        long start = CommandMetrics.start();
+        List<Task> tasks = page.getTasks();
+        int to = from + tasks.size() - 1;
+        this.listCursor = to + 1;
+        this.listPageSize = size;
+
+        StringBuilder builder = listBuffer;
+        builder.setLength(0);
         appendWithNewline(builder, "Here are the tasks in your list:");
-        for (int i = 0; i < taskList.getNumTasks(); i++) {
-            appendWithNewline(builder,
-                    String.format("%d.%s", i + 1, taskList.getTaskAt(i + 1)));
+        for (int i = 0; i < tasks.size(); i++) {
+            appendNumberedTask(builder, from + i, tasks.get(i));
+        }
+        if (from > 1 || to < numTasks) {
+            builder.append("Showing tasks ").append(from).append('-').append(to)
+                    .append(" of ").append(numTasks).append('.');
+            if (to < numTasks) {
+                builder.append(" Type 'list next' for more.");
+            }
+            builder.append('\n');
         }
 
-        return builder.toString();
+        String message = builder.toString();
+        if (builder.capacity() > MAX_KEPT_BUFFER_SIZE) {
+            listBuffer = new StringBuilder();
+        }
+        CommandMetrics.recordForCurrentCommand(Phase.RENDER, start);
+        event.finishForCurrentCommand(Phase.RENDER, to - from + 1);
+        return message;
+    }
+
+    /**
+     * Prints the page of the list of tasks following the last page printed, of the same size
+     *
+     * @param taskList List of tasks stored in the application
+     * @param defaultSize Number of tasks shown if no page was printed before
+     * @return String message to be printed.
+     */
+    public String printNextTaskPage(TaskList taskList, int defaultSize) {
+        int size = this.listPageSize > 0 ? this.listPageSize : defaultSize;
+        if (this.listCursor > taskList.getNumTasks()) {
+            return printOneLine("There are no more tasks in your list.");
+        }
+        return printTaskPage(taskList, this.listCursor, size);
     }
 
 
@@ -143,21 +270,33 @@ public class Ui {
      * @return String message to be printed.
      */
     public String printFindResults(List<Task> lst) {
-
+        CommandEvent event = CommandEvent.startPhase();
+        long start = CommandMetrics.start();
         StringBuilder builder = new StringBuilder();
 
 
         builder.append("Here are the matching tasks in your list:");
         builder.append("\n");
         for (int i = 0; i < lst.size(); i++) {
-            appendWithNewline(builder,
-                    String.format("%d.%s", i + 1, lst.get(i)));
+            appendNumberedTask(builder, i + 1, lst.get(i));
         }
 
+        CommandMetrics.recordForCurrentCommand(Phase.RENDER, start);
+        event.finishForCurrentCommand(Phase.RENDER, lst.size());
         return builder.toString();
     }
 
 
+    /**
+     * Prints the message telling where the server is listening for connections.
+     *
+     * @param address Address and port the server is listening on
+     * @return String message to be printed.
+     */
+    public String printListeningMessage(SocketAddress address) {
+        return this.printOneLine("Duke is listening on " + address);
+    }
+
     /**
      * Prints the exit message.
      *
@@ -178,6 +317,13 @@ public class Ui {
         return this.printOneLine(e.getMessage());
     }
 
+    //helper method to append a task on its own line after its number, without formatting a string for it
+    private void appendNumberedTask(StringBuilder builder, int number, Task task) {
+        builder.append(number).append('.');
+        task.appendTo(builder);
+        builder.append('\n');
+    }
+
     //helper method to attach a newline after adding a message to the same StringBuilder
     private void appendWithNewline(StringBuilder builder, String msg) {
         builder.append(msg);
@@ -207,11 +353,24 @@ public class Ui {
                 "     e.g. event meetup /at Monday",
                 "",
                 "     find KEYWORD : Find tasks with the word in the description/name",
+                "     find KEYWORD KEYWORD... : Find tasks with all of the whole words in the description/name",
+                "",
+                "     upcoming [COUNT] : Shows the next pending deadlines and events from now, 5 if no count is given",
+                "     due between dd/mm/yyyy hhmm and dd/mm/yyyy hhmm : Shows the pending deadlines and events" +
+                        " in the range",
                 "",
                 "     done [TASK_NUMBER] : Checks task at a particular index as done",
                 "     delete [TASK_NUMBER] : Deletes task at a particular index",
+                "     done 1,4,9 / done 10-500 : Checks several tasks as done together",
+                "     delete 1,4,9 / delete 10-500 / delete done : Deletes several tasks, or every task done, together",
                 "",
-                "     list : Shows all undeleted tasks",
+                "     list [PAGE] : Shows undeleted tasks, 50 to a page",
+                "     list from [TASK_NUMBER] size [COUNT] : Shows COUNT tasks from a particular index",
+                "     list next : Shows the page after the last one shown",
+                "     batch COMMAND; COMMAND... : Runs the commands together, keeping none of their changes" +
+                        " if one fails",
+                "     (type ;; for a ; within a command)",
+                "     stats : Shows how many times each command was run and how long it took",
                 "     bye : Exit the program",
                 "",
                 "     Note: bracketed inputs like [TASK_NUMBER] denote that only integer inputs are accepted"));
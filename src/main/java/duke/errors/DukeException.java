@@ -3,13 +3,18 @@ package duke.errors;
 
 /**
  * Represents an Exception class in Duke.
+ * Exceptions caused by what the user typed are thrown and caught on every bad line of input,
+ * so they are made without a stack trace, which would cost more than checking the line itself.
+ * Exceptions caused by the data file keep their stack trace.
  */
 public class DukeException extends Exception {
 
+    private static final long serialVersionUID = 1L;
+
     private DukeExceptionType type;
 
     public DukeException(String error, DukeExceptionType type){
-        super(error);
+        super(error, null, true, !isCausedByInput(type));
         this.type = type;
 
         assert type != null;
@@ -37,8 +42,18 @@ public class DukeException extends Exception {
 				return "Must be a single keyword";
 			case TASK_ALREADY_DONE:
 				return "Task already done!";
+			case CORRUPTED_FILE:
+				return "Data file is corrupted!!";
+			case BATCH_FAILED:
+				return super.getMessage();
 			default:
     			return "Unknown error! Please try again.";
     	}
     }
+
+    //helper method to check if an exception of the given type is caused by the input of the user
+    //rather than by the data file
+    private static boolean isCausedByInput(DukeExceptionType type) {
+        return type != DukeExceptionType.FILE_NOT_FOUND && type != DukeExceptionType.CORRUPTED_FILE;
+    }
 }
@@ -11,5 +11,7 @@ public enum DukeExceptionType {
     TASK_NOT_FOUND,
     NOT_SINGLE_WORD,
     TASK_ALREADY_DONE,
-    INVALID_DATE_TIME_FORMAT
+    INVALID_DATE_TIME_FORMAT,
+    CORRUPTED_FILE,
+    BATCH_FAILED
 }
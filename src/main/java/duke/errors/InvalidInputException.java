@@ -0,0 +1,26 @@
+package duke.errors;
+
+
+/**
+ * Represents an exception thrown when a line of input is not in the form its command expects.
+ * It is made without a stack trace, since it is thrown and caught on every bad line of input
+ * and only its message is shown to the user.
+ */
+public class InvalidInputException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidInputException(String error) {
+        super(error);
+    }
+
+    /**
+     * Skips filling in the stack trace, which is never shown
+     *
+     * @return this exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
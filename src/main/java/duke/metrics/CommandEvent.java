@@ -0,0 +1,97 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import duke.commands.CommandType;
+
+import duke.core.TaskList;
+
+
+/**
+ * Represents a Java Flight Recorder event for parsing a command, executing it or rendering its reply.
+ * The event is turned off unless a recording turns it on, in which case its fields are only filled in
+ * for the events that are kept.
+ */
+@Name("duke.Command")
+@Label("Duke Command")
+@Category("Duke")
+@Description("Parsing, executing or rendering the reply of a command")
+@Enabled(false)
+@StackTrace(false)
+public class CommandEvent extends Event {
+
+    @Label("Command Type")
+    String commandType;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Tasks")
+    @Description("Tasks in the list after executing, or tasks shown when rendering")
+    int numTasks;
+
+    /**
+     * Creates an event starting now
+     *
+     * @return event to be finished when the phase ends
+     */
+    public static CommandEvent startPhase() {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and keeps it if the recording wants it
+     *
+     * @param type Type of the command
+     * @param phase Phase that ended
+     * @param numTasks Number of tasks in the list or in the reply
+     */
+    public void finish(CommandType type, Phase phase, int numTasks) {
+        end();
+        if (shouldCommit()) {
+            commitFor(type, phase, numTasks);
+        }
+    }
+
+    /**
+     * Ends the event for executing a command, and keeps it if the recording wants it
+     *
+     * @param type Type of the command
+     * @param taskList Task list the command was executed on
+     */
+    public void finishExecute(CommandType type, TaskList taskList) {
+        end();
+        if (shouldCommit()) {
+            commitFor(type, Phase.EXECUTE, taskList.getNumTasks());
+        }
+    }
+
+    /**
+     * Ends the event on behalf of the command running on this thread, and keeps it if the recording wants it
+     *
+     * @param phase Phase that ended
+     * @param numTasks Number of tasks in the list or in the reply
+     */
+    public void finishForCurrentCommand(Phase phase, int numTasks) {
+        end();
+        if (shouldCommit()) {
+            commitFor(CommandMetrics.getCurrentCommand(), phase, numTasks);
+        }
+    }
+
+    //helper method to fill in the fields of an event that is kept
+    private void commitFor(CommandType type, Phase phase, int numTasks) {
+        this.commandType = CommandMetrics.getCommandName(type);
+        this.phase = phase.name().toLowerCase();
+        this.numTasks = numTasks;
+        commit();
+    }
+}
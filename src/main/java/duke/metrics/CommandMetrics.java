@@ -0,0 +1,226 @@
+package duke.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import duke.commands.Command;
+import duke.commands.CommandType;
+
+import duke.core.TaskList;
+import duke.core.Ui;
+
+import duke.errors.DukeException;
+
+
+/**
+ * Records how long each type of command takes in each phase, in histograms that are cheap enough
+ * to keep recording all the time. Rendering and saving are counted towards the command running on
+ * the same thread, and saves made in the background are counted on their own.
+ * Recording can be turned off with -Dduke.metrics=false, and the report can be appended to a file
+ * every minute by starting with -Dduke.metrics.dumpFile=FILE, at an interval in seconds
+ * given by -Dduke.metrics.dumpInterval.
+ * Starting with -Dduke.jfr.file=FILE makes a Java Flight Recorder recording with the default settings
+ * and the events of Duke turned on, which is written to FILE when the application exits.
+ */
+public class CommandMetrics {
+
+    private static final boolean IS_ENABLED = !"false".equalsIgnoreCase(System.getProperty("duke.metrics"));
+    private static final String DUMP_FILE = System.getProperty("duke.metrics.dumpFile");
+    private static final long DUMP_INTERVAL_SECONDS = Long.getLong("duke.metrics.dumpInterval", 60);
+    private static final String RECORDING_FILE = System.getProperty("duke.jfr.file");
+    private static final String COMMAND_PREFIX = "COMMAND_";
+    private static final int BACKGROUND = CommandType.values().length;
+
+    private static final LatencyHistogram[][] histograms =
+            new LatencyHistogram[BACKGROUND + 1][Phase.values().length];
+    private static final ThreadLocal<CommandType> currentCommand = new ThreadLocal<>();
+
+    static {
+        for (LatencyHistogram[] phaseHistograms : histograms) {
+            for (int i = 0; i < phaseHistograms.length; i++) {
+                phaseHistograms[i] = new LatencyHistogram();
+            }
+        }
+        if (IS_ENABLED && DUMP_FILE != null) {
+            startDumping();
+        }
+        if (RECORDING_FILE != null) {
+            startRecording();
+        }
+    }
+
+    /**
+     * Reads the clock at the start of a phase
+     *
+     * @return time to be passed to record, or 0 if recording is turned off
+     */
+    public static long start() {
+        return IS_ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records a phase of a command that started at the given time and has just finished
+     *
+     * @param commandType Type of the command
+     * @param phase Phase that finished
+     * @param start Time returned by start when the phase started
+     */
+    public static void record(CommandType commandType, Phase phase, long start) {
+        if (IS_ENABLED) {
+            histograms[commandType.ordinal()][phase.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records a phase that has just finished on behalf of the command running on this thread,
+     * or as background work if no command is running on it
+     *
+     * @param phase Phase that finished
+     * @param start Time returned by start when the phase started
+     */
+    public static void recordForCurrentCommand(Phase phase, long start) {
+        if (IS_ENABLED) {
+            CommandType commandType = currentCommand.get();
+            int row = commandType == null ? BACKGROUND : commandType.ordinal();
+            histograms[row][phase.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * getter for type of the command running on this thread
+     *
+     * @return type of the command, or null if no command is running on this thread
+     */
+    public static CommandType getCurrentCommand() {
+        return currentCommand.get();
+    }
+
+    /**
+     * Returns the name of a type of command as shown in the report
+     *
+     * @param commandType Type of command, or null for work done in the background
+     * @return name of the type of command
+     */
+    public static String getCommandName(CommandType commandType) {
+        return commandType == null
+                ? "background"
+                : commandType.name().substring(COMMAND_PREFIX.length()).toLowerCase();
+    }
+
+    /**
+     * Executes a command, recording how long it takes
+     *
+     * @param command Command to be executed
+     * @param taskList The main task list of the application.
+     * @param ui The main user interface of the application.
+     * @return Reply of the command
+     * @throws DukeException Occurs when parts of the command cannot be executed.
+     * @throws IOException Thrown when the file update fails.
+     */
+    public static String execute(Command command, TaskList taskList, Ui ui) throws DukeException, IOException {
+        CommandType previous = currentCommand.get();
+        currentCommand.set(command.getCommandType());
+        CommandEvent event = CommandEvent.startPhase();
+        long start = start();
+        try {
+            return command.execute(taskList, ui);
+        } finally {
+            record(command.getCommandType(), Phase.EXECUTE, start);
+            event.finishExecute(command.getCommandType(), taskList);
+            currentCommand.set(previous);
+        }
+    }
+
+    /**
+     * Reports the number of times each phase of each type of command was timed, along with
+     * the average, median, 90th and 99th percentile and longest time in microseconds
+     *
+     * @return Lines of the report
+     */
+    public static List<String> report() {
+        List<String> lines = new ArrayList<>();
+        if (!IS_ENABLED) {
+            lines.add("Timings are not recorded because Duke was started with -Dduke.metrics=false.");
+            return lines;
+        }
+        lines.add(String.format("%-14s %-8s %8s %10s %10s %10s %10s %10s",
+                "COMMAND", "PHASE", "COUNT", "MEAN(us)", "P50(us)", "P90(us)", "P99(us)", "MAX(us)"));
+        for (int row = 0; row < histograms.length; row++) {
+            String name = getCommandName(row == BACKGROUND ? null : CommandType.values()[row]);
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram.Snapshot snapshot = histograms[row][phase.ordinal()].takeSnapshot();
+                if (snapshot.getCount() == 0) {
+                    continue;
+                }
+                lines.add(String.format("%-14s %-8s %8d %10.1f %10.1f %10.1f %10.1f %10.1f",
+                        name, phase.name().toLowerCase(), snapshot.getCount(),
+                        toMicros(snapshot.getMeanNanos()), toMicros(snapshot.getPercentileNanos(50)),
+                        toMicros(snapshot.getPercentileNanos(90)), toMicros(snapshot.getPercentileNanos(99)),
+                        toMicros(snapshot.getMaxNanos())));
+            }
+        }
+        if (lines.size() == 1) {
+            lines.add("No commands have been timed yet.");
+        }
+        return lines;
+    }
+
+    //helper method to convert nanoseconds to microseconds for the report
+    private static double toMicros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    //helper method to append the report to the dump file at every interval and when the application exits
+    private static void startDumping() {
+        ScheduledExecutorService dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "duke-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleWithFixedDelay(CommandMetrics::dump,
+                DUMP_INTERVAL_SECONDS, DUMP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(CommandMetrics::dump, "duke-metrics-on-exit"));
+    }
+
+    //helper method to append the report to the dump file, under the time it was made
+    private static void dump() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("=== ").append(LocalDateTime.now()).append(System.lineSeparator());
+        for (String line : report()) {
+            builder.append(line).append(System.lineSeparator());
+        }
+        try {
+            Files.write(Paths.get(DUMP_FILE), builder.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    //helper method to record with the default settings and the events of Duke turned on,
+    //writing the recording to the file when the application exits
+    private static void startRecording() {
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.enable(CommandEvent.class);
+            recording.enable(StorageWriteEvent.class);
+            recording.setDestination(Paths.get(RECORDING_FILE));
+            recording.setDumpOnExit(true);
+            recording.start();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package duke.metrics;
+
+/**
+ * Represents the parts of running a command that are timed separately.
+ * The time taken to execute a command includes the time taken to render and save it.
+ */
+public enum Phase {
+    PARSE,
+    EXECUTE,
+    RENDER,
+    SAVE
+}
@@ -0,0 +1,105 @@
+package duke.metrics;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+/**
+ * Represents a Java Flight Recorder event for writing tasks to the data file or the journal,
+ * or for overwriting the status of a task in the data file.
+ * The event is turned off unless a recording turns it on, in which case the bytes written are
+ * only counted for the events that are kept.
+ */
+@Name("duke.StorageWrite")
+@Label("Duke Storage Write")
+@Category("Duke")
+@Description("Writing tasks to the data file, a record to the journal or the status of a task in place")
+@Enabled(false)
+@StackTrace(false)
+public class StorageWriteEvent extends Event {
+
+    @Label("Command Type")
+    @Description("Command whose changes were written, or background for writes made by another thread")
+    String commandType;
+
+    @Label("Target")
+    String target;
+
+    @Label("Tasks")
+    int numTasks;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytesWritten;
+
+    /**
+     * Creates an event starting now
+     *
+     * @return event to be finished when the write ends
+     */
+    public static StorageWriteEvent startWrite() {
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event for a whole file that was written, and keeps it if the recording wants it
+     *
+     * @param file File that was written
+     * @param numTasks Number of tasks written
+     */
+    public void finishFile(File file, int numTasks) {
+        end();
+        if (shouldCommit()) {
+            this.commandType = CommandMetrics.getCommandName(CommandMetrics.getCurrentCommand());
+            this.target = file.getName();
+            this.numTasks = numTasks;
+            this.bytesWritten = file.length();
+            commit();
+        }
+    }
+
+    /**
+     * Ends the event for a record appended to the journal, and keeps it if the recording wants it
+     *
+     * @param file Journal the record was appended to
+     * @param record Record that was appended
+     */
+    public void finishRecord(File file, String record) {
+        end();
+        if (shouldCommit()) {
+            this.commandType = CommandMetrics.getCommandName(CommandMetrics.getCurrentCommand());
+            this.target = file.getName();
+            this.numTasks = 1;
+            this.bytesWritten = record.getBytes(StandardCharsets.UTF_8).length;
+            commit();
+        }
+    }
+
+    /**
+     * Ends the event for a task whose status was overwritten in the file, and keeps it if the recording wants it
+     *
+     * @param file File that was written
+     * @param numBytes Number of bytes overwritten
+     */
+    public void finishPatch(File file, int numBytes) {
+        end();
+        if (shouldCommit()) {
+            this.commandType = CommandMetrics.getCommandName(CommandMetrics.getCurrentCommand());
+            this.target = file.getName();
+            this.numTasks = 1;
+            this.bytesWritten = numBytes;
+            commit();
+        }
+    }
+}
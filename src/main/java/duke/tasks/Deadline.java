@@ -1,5 +1,7 @@
 package duke.tasks;
 
+import java.time.LocalDateTime;
+
 /**
  * Represents a deadline task in the application.
  * A deadline provides the getter methods to its date.
@@ -7,6 +9,7 @@ package duke.tasks;
 public class Deadline extends Task {
 
     private String date;
+    private LocalDateTime dateTime;
 
     /**
      * Initialises an deadline task with the description and date and time of the deadline task.
@@ -15,9 +18,21 @@ public class Deadline extends Task {
      * @param date Date description
      */
     public Deadline(String description, String date) {
+        this(description, date, null);
+    }
+
+    /**
+     * Initialises a deadline task with the description, the display text of its date
+     * and the date and time it was parsed from.
+     *
+     * @param description Deadline description
+     * @param date Date description
+     * @param dateTime Date and time of the deadline, or null if the date was not recognised
+     */
+    public Deadline(String description, String date, LocalDateTime dateTime) {
         super(description, TaskType.DEADLINE_TASK);
         this.date = date;
-
+        this.dateTime = dateTime;
         assert date != null;
     }
 
@@ -31,14 +46,20 @@ public class Deadline extends Task {
         return this.date;
     }
 
+    @Override
+    public LocalDateTime getDateTime() {
+        return this.dateTime;
+    }
+
     /**
-     * Returns A string that includes the task type, description and date of the deadline task.
+     * Appends a string that includes the task type, description and date of the deadline task.
      *
-     * @return String that includes the task type, description and date of the deadline task.
+     * @param builder Builder the text is appended to
      */
     @Override
-    public String toString() {
-        return String.format("[D][%s] %s(by: %s)", getStatusIcon(),
-                getDescription(), getDate());
+    public void appendTo(StringBuilder builder) {
+        builder.append("[D]");
+        super.appendTo(builder);
+        builder.append("(by: ").append(getDate()).append(')');
     }
 }
\ No newline at end of file
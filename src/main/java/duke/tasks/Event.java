@@ -1,5 +1,7 @@
 package duke.tasks;
 
+import java.time.LocalDateTime;
+
 
 /**
  * Represents an event task in the application.
@@ -8,6 +10,7 @@ package duke.tasks;
 public class Event extends Task {
 
     private String date;
+    private LocalDateTime dateTime;
 
     /**
      * Initialises an deadline task with the description and date and time of the event task.
@@ -16,8 +19,21 @@ public class Event extends Task {
      * @param date Date description
      */
     public Event(String description, String date) {
+        this(description, date, null);
+    }
+
+    /**
+     * Initialises an event task with the description, the display text of its date
+     * and the date and time it was parsed from.
+     *
+     * @param description Event description
+     * @param date Date description
+     * @param dateTime Date and time of the event, or null if the date was not recognised
+     */
+    public Event(String description, String date, LocalDateTime dateTime) {
         super(description, TaskType.EVENT_TASK);
         this.date = date;
+        this.dateTime = dateTime;
         assert date != null;
     }
 
@@ -31,14 +47,20 @@ public class Event extends Task {
         return this.date;
     }
 
+    @Override
+    public LocalDateTime getDateTime() {
+        return this.dateTime;
+    }
+
     /**
-     * Returns A string that includes the task type, description and date of the event task.
+     * Appends a string that includes the task type, description and date of the event task.
      *
-     * @return String that includes the task type, description and date of the event task.
+     * @param builder Builder the text is appended to
      */
     @Override
-    public String toString() {
-        return String.format("[E][%s] %s(at: %s)", getStatusIcon(),
-                getDescription(), getDate());
+    public void appendTo(StringBuilder builder) {
+        builder.append("[E]");
+        super.appendTo(builder);
+        builder.append("(at: ").append(getDate()).append(')');
     }
 }
\ No newline at end of file
@@ -1,24 +1,26 @@
 package duke.tasks;
 
-import duke.core.TaskList;
+import java.time.LocalDateTime;
+
 import duke.errors.DukeAssertions;
 
 
 /**
- * Represents a task in the application. A task has two private fields, the description of the task and
- * the state of completion of the task. The type of task is package-private and taskList is a
- * class attribute. The Task class provides the getters to type, description, completion status,
- * the task list as well as getting the icon (tick and cross, or 1 and 0)
+ * Represents a task in the application. A task has three private fields, the description of the task,
+ * the state of completion of the task and the ID of the task. The type of task is package-private.
+ * The Task class provides the getters to type, description, completion status and ID
+ * as well as getting the icon (tick and cross, or 1 and 0)
  * which corresponds to the isDone field. Task class also
- * supports a setDone method which sets isDone field  to true and a setTaskList method which sets
- * taskList field to the main task list of the application.
+ * supports a setDone method which sets isDone field  to true and a setID method which is used
+ * by the task list to give the task a stable ID. A task marked as done can be set back to not done
+ * when the change is undone.
+ * Tasks with a recognised due date and time return it from getDateTime.
  */
 public abstract class Task {
     private String description;
     private boolean isDone;
     private TaskType type;
-
-    public static TaskList taskList;
+    private int taskID;
 
     /**
      * Initialises a Task that has a default isDone field of false.
@@ -80,7 +82,18 @@ public abstract class Task {
      * @return String with status icon and description of task.
      */
     public String toString() {
-        return String.format("[%s] %s", getStatusIcon(), getDescription());
+        StringBuilder builder = new StringBuilder();
+        appendTo(builder);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the same text as toString to the builder, without creating a string for it
+     *
+     * @param builder Builder the text is appended to
+     */
+    public void appendTo(StringBuilder builder) {
+        builder.append('[').append(getStatusIcon()).append("] ").append(getDescription());
     }
 
 
@@ -109,20 +122,39 @@ public abstract class Task {
     }
 
     /**
-     * Initialises a reference to the task list of the application in the Task class
+     * Sets the boolean isDone back to false, undoing the task being marked as done
+     */
+    public void setNotDone() {
+        this.isDone = false;
+    }
+
+    /**
+     * Returns the date and time the task is due or happens at, or null if the task has none
+     * that could be recognised
+     *
+     * @return Date and time of the task, or null
+     */
+    public LocalDateTime getDateTime() {
+        return null;
+    }
+
+    /**
+     * Returns the ID of the task, which stays the same while the task is in the list.
+     * A task that has not been added to a list has an ID of 0.
+     *
+     * @return ID of the task
      */
-    public static void setTaskList(TaskList taskList) {
-        Task.taskList = taskList;
-        assert taskList != null;
+    public int getID() {
+        return taskID;
     }
 
     /**
-     * Returns the position of the specified task in current list
+     * Sets the ID of the task, which is assigned by the task list
      *
-     * @return Position of the specified task in current list
+     * @param taskID ID of the task
      */
-    public static int getTaskID(Task task) {
-        assert taskList != null;
-        return Task.taskList.getTaskID(task);
+    public void setID(int taskID) {
+        assert taskID > 0;
+        this.taskID = taskID;
     }
 }
\ No newline at end of file
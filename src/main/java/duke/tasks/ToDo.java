@@ -20,30 +20,14 @@ public class ToDo extends Task {
 
 
     /**
-     * Creates a ToDo task from the parameters provided for a ToDo task
+     * Appends a string that includes the type task and the toString of Task.
      *
-     * @return A ToDo task
-     * @param tokens User input split by space
-     */
-    public static ToDo createToDo(String [] tokens) {
-        StringBuilder builder = new StringBuilder();
-        for (int i = 1; i < tokens.length - 1 ; i++) {
-            builder.append(tokens[i]);
-            builder.append(" ");
-        }
-        builder.append(tokens[tokens.length-1]);
-        return new ToDo(builder.toString());
-    }
-
-
-    /**
-     * Returns A string that includes the type task and the toString of Task.
-     *
-     * @return String that adds the type of the task to the toString method of Task.
+     * @param builder Builder the text is appended to
      */
     @Override
-    public String toString() {
-        return String.format("[T][%s] %s", getStatusIcon(), getDescription());
+    public void appendTo(StringBuilder builder) {
+        builder.append("[T]");
+        super.appendTo(builder);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,180 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.core.Storage;
+import duke.core.StorageMode;
+import duke.core.TaskList;
+import duke.tasks.ToDo;
+
+
+/**
+ * Class to test the line protocol of the DukeServer class over a loopback socket
+ */
+class DukeServerTest {
+
+    @TempDir
+    File tempDir;
+
+    /**
+     * Test that every line sent is answered with the reply of its command followed by a line holding
+     * only a full stop, that changes are seen by later connections, and that bye only closes its connection
+     */
+    @Test
+    void serve_commandsOverLoopback_repliesEndedByFullStop() throws Exception {
+        TaskList taskList = new TaskList(Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE));
+        DukeServer server = new DukeServer(taskList, 0);
+        Thread serving = new Thread(server::serve);
+        serving.start();
+        try {
+            try (Connection connection = new Connection(server)) {
+                List<String> added = connection.send("todo read book");
+                assertEquals("Got it. I've added this task: ", added.get(0));
+                assertTrue(added.get(1).endsWith(" read book"));
+                assertEquals("Now you have 1 tasks in the list.", added.get(2));
+                assertEquals(List.of("No such task"), connection.send("done 5"));
+                assertEquals(List.of("OOPS!!! I'm sorry, but I don't know what that means :-("),
+                        connection.send("blah"));
+            }
+
+            try (Connection connection = new Connection(server)) {
+                List<String> listed = connection.send("list");
+                assertEquals(2, listed.size());
+                assertTrue(listed.get(1).startsWith("1.[T]"));
+                assertEquals(List.of("Bye. Hope to see you again soon!"), connection.send("bye"));
+                assertNull(connection.reader.readLine());
+            }
+
+            try (Connection connection = new Connection(server)) {
+                assertEquals(2, connection.send("find book").size());
+            }
+        } finally {
+            server.stop();
+            serving.join(5000);
+        }
+        assertFalse(serving.isAlive());
+        assertEquals(1, taskList.getNumTasks());
+    }
+
+    /**
+     * Test that listing the tasks while another thread clears the list is always answered with a whole
+     * page ended by a full stop, and that a command failing in an unexpected way is answered with
+     * an error line rather than leaving the client waiting
+     */
+    @Test
+    void serve_listWhileListCleared_everyReplyEnded() throws Exception {
+        TaskList taskList = new TaskList(Storage.createStorageIfRequired(tempDir, StorageMode.WRITE_BEHIND));
+        for (int i = 0; i < 2000; i++) {
+            taskList.addToList(new ToDo("task " + i));
+        }
+        TaskList failingList = new TaskList(Storage.createStorageIfRequired(new File(tempDir, "failing"),
+                StorageMode.WRITE_BEHIND)) {
+            @Override
+            public Page getPage(int from, int size) {
+                throw new IndexOutOfBoundsException("Index " + from + " out of bounds for length 0");
+            }
+        };
+        DukeServer server = new DukeServer(taskList, 0);
+        DukeServer failingServer = new DukeServer(failingList, 0);
+        Thread serving = new Thread(server::serve);
+        Thread failingServing = new Thread(failingServer::serve);
+        serving.start();
+        failingServing.start();
+        Thread clearing = new Thread(() -> {
+            try {
+                while (taskList.getNumTasks() > 0) {
+                    taskList.removeAt(1);
+                }
+            } catch (IOException error) {
+                throw new UncheckedIOException(error);
+            }
+        });
+        try (Connection connection = new Connection(server)) {
+            clearing.start();
+            while (clearing.isAlive()) {
+                List<String> listed = connection.send("list from 1000 size 20");
+                assertTrue(listed.size() == 1 || listed.get(0).equals("Here are the tasks in your list:"));
+            }
+            assertEquals(List.of("Here are the tasks in your list:"), connection.send("list"));
+
+            try (Connection failing = new Connection(failingServer)) {
+                assertEquals(List.of("Unknown error! Please try again."), failing.send("list"));
+                assertEquals(List.of("Bye. Hope to see you again soon!"), failing.send("bye"));
+            }
+        } finally {
+            clearing.join(5000);
+            server.stop();
+            failingServer.stop();
+            serving.join(5000);
+            failingServing.join(5000);
+        }
+        assertEquals(0, taskList.getNumTasks());
+    }
+
+    /**
+     * Test that reply lines starting with a full stop have another one added in front,
+     * so that they cannot be mistaken for the end of the reply
+     */
+    @Test
+    void writeReply_linesStartingWithFullStop_fullStopAdded() throws IOException {
+        StringWriter writer = new StringWriter();
+        DukeServer.writeReply(writer, ".hidden\nshown\n..\n");
+        assertEquals("..hidden\nshown\n...\n.\n", writer.toString());
+
+        StringWriter empty = new StringWriter();
+        DukeServer.writeReply(empty, "");
+        assertEquals(".\n", empty.toString());
+    }
+
+    /**
+     * Represents a connection to the server, sending one command at a time and reading its reply
+     */
+    private static class Connection implements AutoCloseable {
+
+        private Socket socket;
+        private BufferedReader reader;
+        private Writer writer;
+
+        Connection(DukeServer server) throws IOException {
+            socket = new Socket();
+            socket.connect(server.getAddress(), 5000);
+            socket.setSoTimeout(5000);
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+        }
+
+        //helper method to send a command and read the lines of its reply, without the full stop ending it
+        List<String> send(String command) throws IOException {
+            writer.write(command + "\n");
+            writer.flush();
+            List<String> lines = new ArrayList<>();
+            String line;
+            while (!(line = reader.readLine()).equals(DukeServer.END_OF_REPLY)) {
+                lines.add(line.startsWith(DukeServer.END_OF_REPLY) ? line.substring(1) : line);
+            }
+            return lines;
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package duke.commands;
+
+import duke.errors.DukeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import duke.core.Parser;
+import duke.core.Storage;
+import duke.core.StorageMode;
+import duke.core.TaskList;
+import duke.core.Ui;
+
+import duke.tasks.Task;
+import duke.tasks.ToDo;
+
+/**
+ * Class to test certain functionality of the BatchCommand class
+ */
+class BatchCommandTest {
+
+    @TempDir
+    File tempDir;
+
+    /**
+     * Test that several commands entered together are undone when one of them fails,
+     * and saved together when they all succeed
+     */
+    @Test
+    void execute_batchWithFailingCommand_noChangesKept() throws IOException, DukeException {
+        TaskList taskList = createTaskList("read book", "return book");
+        Ui ui = new Ui();
+
+        Command failing = Parser.parseCommand("batch todo buy milk; done 1; delete 2; done 9");
+        assertThrows(DukeException.class, () -> failing.execute(taskList, ui));
+        assertEquals(2, taskList.getNumTasks());
+        assertEquals("return book", taskList.getTaskAt(2).getDescription());
+        assertTrue(!taskList.getTaskAt(1).getDoneStatus());
+        assertEquals(1, taskList.findTasks("return").size());
+
+        Parser.parseCommand("batch todo buy milk;; eggs; done 1\ndelete 2").execute(taskList, ui);
+        ArrayList<Task> loaded = Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE).load();
+        assertEquals(2, loaded.size());
+        assertTrue(loaded.get(0).getDoneStatus());
+        assertEquals("buy milk; eggs", loaded.get(1).getDescription());
+    }
+
+    /**
+     * Test that a semicolon outside of a batch is kept as part of the command, so that a single task
+     * is added with the semicolon in its description and can be found by it
+     */
+    @Test
+    void execute_descriptionWithSemicolon_singleTaskAdded() throws IOException, DukeException {
+        TaskList taskList = createTaskList("read book");
+        Ui ui = new Ui();
+
+        Parser.parseCommand("todo buy milk; eggs").execute(taskList, ui);
+        assertEquals(2, taskList.getNumTasks());
+        assertEquals("buy milk; eggs", taskList.getTaskAt(2).getDescription());
+        assertEquals(1, taskList.findTasks("milk; eggs").size());
+        assertTrue(Parser.parseCommand("find milk;").execute(taskList, ui).contains("buy milk; eggs"));
+
+        ArrayList<Task> loaded = Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE).load();
+        assertEquals(2, loaded.size());
+        assertEquals("buy milk; eggs", loaded.get(1).getDescription());
+    }
+
+    //helper method to create a task list holding todo tasks with the given descriptions
+    private TaskList createTaskList(String... descriptions) throws IOException {
+        TaskList taskList = new TaskList(Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE));
+        for (String description : descriptions) {
+            taskList.addToList(new ToDo(description));
+        }
+        return taskList;
+    }
+
+}
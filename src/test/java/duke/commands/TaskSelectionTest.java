@@ -0,0 +1,67 @@
+package duke.commands;
+
+import duke.errors.DukeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.core.Parser;
+import duke.core.Storage;
+import duke.core.StorageMode;
+import duke.core.TaskList;
+import duke.core.Ui;
+
+import duke.tasks.Task;
+import duke.tasks.ToDo;
+
+/**
+ * Class to test the done and delete commands on lists and ranges of tasks
+ */
+class TaskSelectionTest {
+
+    @TempDir
+    File tempDir;
+
+    /**
+     * Test that lists and ranges of tasks are marked as done together, and that the tasks
+     * that are done are then deleted together, from the list, the file and the search indexes
+     */
+    @Test
+    void execute_doneAndDeleteSelections_tasksChangedTogether() throws IOException, DukeException {
+        TaskList taskList = createTaskList("a1", "b2", "c3", "d4", "e5", "f6");
+        Ui ui = new Ui();
+
+        Parser.parseCommand("done 2, 4-5").execute(taskList, ui);
+        assertTrue(taskList.getTaskAt(4).getDoneStatus());
+        assertTrue(!taskList.getTaskAt(3).getDoneStatus());
+        assertThrows(DukeException.class, () -> Parser.parseCommand("delete 5-7").execute(taskList, ui));
+
+        Parser.parseCommand("delete done").execute(taskList, ui);
+        assertEquals(3, taskList.getNumTasks());
+        assertEquals("c3", taskList.getTaskAt(2).getDescription());
+        assertEquals(0, taskList.findTasks("d4").size());
+        assertEquals(taskList.getTaskAt(3), taskList.findTasksWithWords(List.of("f6")).get(0));
+
+        ArrayList<Task> loaded = Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE).load();
+        assertEquals(3, loaded.size());
+        assertEquals("f6", loaded.get(2).getDescription());
+    }
+
+    //helper method to create a task list holding todo tasks with the given descriptions
+    private TaskList createTaskList(String... descriptions) throws IOException {
+        TaskList taskList = new TaskList(Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE));
+        for (String description : descriptions) {
+            taskList.addToList(new ToDo(description));
+        }
+        return taskList;
+    }
+
+}
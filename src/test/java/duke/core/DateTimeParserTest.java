@@ -0,0 +1,99 @@
+package duke.core;
+
+import duke.errors.DukeException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+
+/**
+ * Class to test certain functionality of the DateTimeParser class against the formatter it replaces
+ */
+class DateTimeParserTest {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(DateTimeParser.PATTERN);
+
+    /**
+     * Test that dates read without the formatter are the same as the ones read by the formatter,
+     * for every day and hour of the common shape
+     */
+    @Test
+    void parseFast_commonShape_sameAsFormatter() {
+        for (int day = 1; day <= 28; day++) {
+            for (int month = 1; month <= 12; month++) {
+                for (int hour = 0; hour <= 23; hour++) {
+                    String text = String.format("%02d/%02d/%04d %02d%02d", day, month, 1999 + day, hour, day * 2);
+                    assertEquals(LocalDateTime.parse(text, FORMATTER), DateTimeParser.parseFast(text));
+                }
+            }
+        }
+        assertEquals(LocalDateTime.parse("01/01/0001 0000", FORMATTER), DateTimeParser.parseFast("01/01/0001 0000"));
+    }
+
+    /**
+     * Test that the days past the 28th, the hour 24 and the year 0 are left to the formatter,
+     * which resolves them the same way as before
+     */
+    @Test
+    void parse_valuesNearEdges_sameAsFormatter() throws DukeException {
+        String[] texts = {"29/02/2019 1200", "29/02/2020 1200", "31/04/2019 0000", "30/02/2020 0930",
+                "31/12/2019 2359", "12/12/2019 2400", "31/12/2019 2400"};
+        for (String text : texts) {
+            assertNull(DateTimeParser.parseFast(text));
+            assertTrue(DateTimeParser.isResolvable(text));
+            assertEquals(LocalDateTime.parse(text, FORMATTER), DateTimeParser.parse(text));
+        }
+        assertEquals(LocalDateTime.of(2019, 2, 28, 12, 0), DateTimeParser.parse("29/02/2019 1200"));
+        assertEquals(LocalDateTime.of(2020, 1, 1, 0, 0), DateTimeParser.parse("31/12/2019 2400"));
+
+        for (String text : new String[] {"01/01/0000 1200", "12/12/2019 2430"}) {
+            assertNull(DateTimeParser.parseFast(text));
+            assertThrows(DateTimeParseException.class, () -> LocalDateTime.parse(text, FORMATTER));
+            assertThrows(DukeException.class, () -> DateTimeParser.parse(text));
+        }
+    }
+
+    /**
+     * Test that text the formatter cannot read is rejected up front, and with the same message as before
+     */
+    @Test
+    void isResolvable_textFormatterRejects_false() {
+        String[] texts = {"31/13/2019 2500", "00/01/2019 1200", "32/01/2019 1200", "01/01/2019 1260",
+                "1/1/2019 1200", "02/12/1212 12:00", "02/12/1212", "02/12/1212 1200 ", "ab/cd/efgh ijkl"};
+        for (String text : texts) {
+            assertFalse(DateTimeParser.isResolvable(text));
+            assertNull(DateTimeParser.parseFast(text));
+            assertThrows(DateTimeParseException.class, () -> LocalDateTime.parse(text, FORMATTER));
+            DukeException exception = assertThrows(DukeException.class, () -> DateTimeParser.parse(text));
+            assertEquals(text + " is not in valid dd/MM/yyyy HHmm format.", exception.getMessage());
+        }
+    }
+
+    /**
+     * Test that dates are rendered with the same text as before, for each kind of day suffix,
+     * midnight, noon and minutes of one or two digits
+     */
+    @Test
+    void render_dates_sameTextAsBefore() {
+        assertEquals("2nd of DECEMBER 1212, 12pm", DateTimeParser.render(LocalDateTime.of(1212, 12, 2, 12, 0)));
+        assertEquals("12th of DECEMBER 1212, 12:13am", DateTimeParser.render(LocalDateTime.of(1212, 12, 12, 0, 13)));
+        assertEquals("1st of JANUARY 2019, 12am", DateTimeParser.render(LocalDateTime.of(2019, 1, 1, 0, 0)));
+        assertEquals("23rd of FEBRUARY 2019, 11:12pm", DateTimeParser.render(LocalDateTime.of(2019, 2, 23, 23, 12)));
+        assertEquals("11th of NOVEMBER 2011, 9:5am", DateTimeParser.render(LocalDateTime.of(2011, 11, 11, 9, 5)));
+        assertEquals("29th of FEBRUARY 2020, 1pm", DateTimeParser.render(LocalDateTime.of(2020, 2, 29, 13, 0)));
+        assertEquals("30th of APRIL 2019, 11:59am", DateTimeParser.render(LocalDateTime.of(2019, 4, 30, 11, 59)));
+        assertEquals("31st of MARCH 2019, 12:30pm", DateTimeParser.render(LocalDateTime.of(2019, 3, 31, 12, 30)));
+
+        LocalDateTime dateTime = LocalDateTime.of(2019, 12, 22, 18, 45);
+        assertEquals(DateTimeParser.render(dateTime), DateTimeParser.format(dateTime));
+        assertEquals("22nd of DECEMBER 2019, 6:45pm", DateTimeParser.format(dateTime));
+    }
+}
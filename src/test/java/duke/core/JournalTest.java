@@ -0,0 +1,132 @@
+package duke.core;
+
+import duke.errors.DukeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+
+import duke.tasks.Task;
+import duke.tasks.ToDo;
+
+
+/**
+ * Class to test certain functionality of the Journal class, on its own and through the storage
+ */
+class JournalTest {
+
+    @TempDir
+    File tempDir;
+
+    /**
+     * Test that replaying the journal applies its records in order, skipping the records
+     * already contained in the data file, and numbers new records on from the last one
+     */
+    @Test
+    void replay_recordsAfterCheckpoint_appliedInOrder() throws IOException, DukeException {
+        File file = new File(tempDir, "data.journal");
+        Journal journal = new Journal(file);
+        journal.appendAdd(Storage.formatTaskToFile(createTask(1, "read book")));
+        journal.appendAdd(Storage.formatTaskToFile(createTask(2, "buy milk")));
+        journal.appendDone(1);
+        journal.appendDelete(2);
+        journal.appendAdd(Storage.formatTaskToFile(createTask(3, "walk dog")));
+        journal.close();
+
+        ArrayList<Task> tasks = new ArrayList<>();
+        Journal replayed = new Journal(file);
+        assertTrue(replayed.replay(tasks, 0, null));
+        assertEquals(2, tasks.size());
+        assertTrue(tasks.get(0).getDoneStatus());
+        assertEquals("walk dog", tasks.get(1).getDescription());
+        assertEquals(5, replayed.getLastSequence());
+        assertEquals(5, replayed.getNumRecords());
+
+        ArrayList<Task> fromCheckpoint = new ArrayList<>();
+        fromCheckpoint.add(createTask(1, "read book"));
+        fromCheckpoint.add(createTask(2, "buy milk"));
+        assertTrue(new Journal(file).replay(fromCheckpoint, 2, null));
+        assertEquals(2, fromCheckpoint.size());
+        assertTrue(fromCheckpoint.get(0).getDoneStatus());
+        assertEquals(3, fromCheckpoint.get(1).getID());
+    }
+
+    /**
+     * Test that changes made after a restart following a compaction, when no journal file is left,
+     * are numbered after the data file's checkpoint and so are kept on the next restart
+     */
+    @Test
+    void load_restartAfterCompaction_newRecordsKept() throws Exception {
+        TaskList taskList = loadJournalTaskList();
+        for (int i = 0; i < 10000; i++) {
+            taskList.addToList(new ToDo("task " + i));
+        }
+        File compactingFile = new File(tempDir, "data.journal.compacting");
+        long deadline = System.currentTimeMillis() + 30000;
+        while (compactingFile.exists() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(compactingFile.exists());
+        assertFalse(new File(tempDir, "data.journal").exists());
+
+        TaskList restarted = loadJournalTaskList();
+        assertEquals(10000, restarted.getNumTasks());
+        restarted.addToList(new ToDo("after compaction"));
+        restarted.setDoneInList(1);
+
+        TaskList reloaded = loadJournalTaskList();
+        assertEquals(10001, reloaded.getNumTasks());
+        assertEquals("after compaction", reloaded.getTaskAt(10001).getDescription());
+        assertEquals(10001, reloaded.getTaskAt(10001).getID());
+        assertTrue(reloaded.getTaskAt(1).getDoneStatus());
+    }
+
+    /**
+     * Test that a record cut short by a crash is dropped while the records before it are recovered
+     * into the data file, and that the changes made after a restart from that file are kept
+     */
+    @Test
+    void load_tornLastRecord_earlierRecordsRecovered() throws IOException, DukeException {
+        TaskList taskList = loadJournalTaskList();
+        taskList.addToList(new ToDo("read book"));
+        taskList.addToList(new ToDo("buy milk"));
+        taskList.setDoneInList(2);
+        String tornRecord = "4 / A / " + Storage.formatTaskToFile(createTask(3, "walk dog"));
+        try (FileOutputStream out = new FileOutputStream(new File(tempDir, "data.journal"), true)) {
+            out.write(tornRecord.substring(0, tornRecord.length() / 2).getBytes(Charset.defaultCharset()));
+        }
+
+        TaskList recovered = loadJournalTaskList();
+        assertEquals(2, recovered.getNumTasks());
+        assertTrue(recovered.getTaskAt(2).getDoneStatus());
+        assertFalse(new File(tempDir, "data.journal").exists());
+
+        TaskList restarted = loadJournalTaskList();
+        restarted.addToList(new ToDo("buy bread"));
+
+        TaskList reloaded = loadJournalTaskList();
+        assertEquals(3, reloaded.getNumTasks());
+        assertEquals("buy bread", reloaded.getTaskAt(3).getDescription());
+    }
+
+    //helper method to load the task list kept in the temporary directory in journal mode, as on startup
+    private TaskList loadJournalTaskList() throws IOException, DukeException {
+        Storage storage = Storage.createStorageIfRequired(tempDir, StorageMode.JOURNAL);
+        return new TaskList(storage.load(), storage);
+    }
+
+    //helper method to create a todo task with the given ID
+    private static Task createTask(int id, String description) {
+        Task task = new ToDo(description);
+        task.setID(id);
+        return task;
+    }
+}
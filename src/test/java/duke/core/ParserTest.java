@@ -19,6 +19,8 @@ import duke.commands.NullCommand;
 import duke.commands.AddToDoCommand;
 import duke.commands.AddDeadlineCommand;
 import duke.commands.AddEventCommand;
+import duke.commands.BatchCommand;
+import duke.commands.FindCommand;
 
 /**
  * Class to test certain functionality of the Parser class
@@ -117,11 +119,91 @@ class ParserTest {
         try {
             assertTrue(Parser.parseCommand("list 1") instanceof ListCommand);
             assertTrue(Parser.parseCommand("bye 1") instanceof ExitCommand);
-            assertTrue(Parser.parseCommand("list a") instanceof ListCommand);
             assertTrue(Parser.parseCommand("bye a") instanceof ExitCommand);
         } catch (DukeException ex) {
             fail("Should return a command ignoring the extra arguments");
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Test that the parseCommand method rejects a list command in none of the forms it takes,
+     * rather than listing every task
+     */
+    @Test
+    void parseCommand_malformedListArguments_exceptionThrown() throws DukeException {
+        assertTrue(Parser.parseCommand("list") instanceof ListCommand);
+        assertTrue(Parser.parseCommand("list next") instanceof ListCommand);
+        assertTrue(Parser.parseCommand("list from 3") instanceof ListCommand);
+
+        String[] inputs = {"list 0", "list abc", "list a", "list from x", "list from 3 size", "list from 3 size 0",
+                "list from 3 count 10", "list to 3", "list 1 2", "list 99999999", "list from 3 size 10 more"};
+        for (String input : inputs) {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> Parser.parseCommand(input));
+            assertTrue(exception.getMessage().startsWith("Please use: list"));
+        }
+    }
+
+    /**
+     * Test that the parseCommand method treats every single space as separating two words,
+     * so that two spaces in a row surround an empty word and spaces at the end are ignored
+     */
+    @Test
+    void parseCommand_extraSpaces_wordsSeparatedBySingleSpaces() throws DukeException {
+        assertTrue(Parser.parseCommand("   ") instanceof NullCommand);
+        assertThrows(DukeException.class, () -> Parser.parseCommand(""));
+        assertThrows(DukeException.class, () -> Parser.parseCommand(" todo read book"));
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseCommand("todo   "));
+
+        assertTrue(Parser.parseCommand("find  read  book ") instanceof FindCommand);
+        assertTrue(Parser.parseCommand("list from 5 size 10  ") instanceof ListCommand);
+        assertTrue(Parser.parseCommand("deadline  /by Sunday") instanceof AddDeadlineCommand);
+        assertThrows(DukeException.class, () -> Parser.parseCommand("done  3"));
+        assertThrows(IllegalArgumentException.class,
+                () -> Parser.parseCommand("due between  01/12/2019 0000 and 07/12/2019 2359"));
+
+        IllegalArgumentException multiple = assertThrows(IllegalArgumentException.class,
+                () -> Parser.parseCommand("deadline book /by Sunday /by Monday"));
+        assertEquals("Multiple keyword detected!!", multiple.getMessage());
+        IllegalArgumentException missingDate = assertThrows(IllegalArgumentException.class,
+                () -> Parser.parseCommand("deadline book /by  /by "));
+        assertEquals("Please insert a due date!!!", missingDate.getMessage());
+        IllegalArgumentException missingKeyword = assertThrows(IllegalArgumentException.class,
+                () -> Parser.parseCommand("deadline book/by Sunday"));
+        assertEquals("Missing deadline keyword!!", missingKeyword.getMessage());
+    }
+
+    /**
+     * Test that bad input is still rejected with the same kind of exception and the same message
+     * as before the exceptions were made without a stack trace
+     */
+    @Test
+    void parseCommand_badInput_sameExceptionAndMessage() {
+        DukeException notInteger = assertThrows(DukeException.class, () -> Parser.parseCommand("done book"));
+        assertEquals("Invalid input, must be an integer!!", notInteger.getMessage());
+
+        IllegalArgumentException emptyTodo = assertThrows(IllegalArgumentException.class,
+                () -> Parser.parseCommand("todo"));
+        assertEquals("OOPS!!! The description of a todo cannot be empty.", emptyTodo.getMessage());
+
+        DukeException badDate = assertThrows(DukeException.class,
+                () -> Parser.parseCommand("deadline x /by 31/13/2019 2500"));
+        assertEquals("31/13/2019 2500 is not in valid dd/MM/yyyy HHmm format.", badDate.getMessage());
+    }
+
+    /**
+     * Test that the parseCommand method only runs commands together after the batch word or on separate lines,
+     * keeping a semicolon anywhere else as part of the command
+     */
+    @Test
+    void parseCommand_semicolons_batchOnlyAfterBatchWord() throws DukeException {
+        assertTrue(Parser.parseCommand("todo buy milk; eggs") instanceof AddToDoCommand);
+        assertTrue(Parser.parseCommand("find a;b") instanceof FindCommand);
+        assertTrue(Parser.parseCommand("deadline pay; file /by Friday") instanceof AddDeadlineCommand);
+        assertTrue(Parser.parseCommand("batch todo buy milk;; eggs; list") instanceof BatchCommand);
+        assertTrue(Parser.parseCommand("todo buy milk\nlist") instanceof BatchCommand);
+        assertThrows(IllegalArgumentException.class, () -> Parser.parseCommand("batch"));
+        assertThrows(DukeException.class, () -> Parser.parseCommand("batch todo buy milk; bye"));
+    }
+
+}
@@ -0,0 +1,256 @@
+package duke.core;
+
+import duke.errors.DukeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import duke.tasks.Task;
+import duke.tasks.ToDo;
+import duke.tasks.Deadline;
+
+
+/**
+ * Class to test certain functionality of the Storage class
+ */
+class StorageTest {
+
+    @TempDir
+    File tempDir;
+
+    /**
+     * Test that a data file written before tasks had IDs, whose first column held positions that can be
+     * repeated or missing, is loaded with unique IDs that stay the same from one load to the next
+     */
+    @Test
+    void load_fileWithoutIDs_uniqueIDsKeptAcrossLoads() throws IOException, DukeException {
+        String lines = String.join(System.lineSeparator(),
+                "1 / ToDo / 0 / read book",
+                "1 / ToDo / 1 / buy milk",
+                "0 / Deadline / 0 / return book / Monday",
+                " / ToDo / 0 / walk dog",
+                "7 / Event / 1 / meetup / Friday",
+                "");
+        Files.write(new File(tempDir, "data.txt").toPath(), lines.getBytes(Charset.defaultCharset()));
+
+        ArrayList<Task> loaded = Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE).load();
+        List<Integer> ids = getIDs(loaded);
+        assertEquals(List.of(1, 8, 9, 10, 7), ids);
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+        assertEquals("buy milk", loaded.get(1).getDescription());
+        assertTrue(loaded.get(4).getDoneStatus());
+
+        ArrayList<Task> reloaded = Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE).load();
+        assertEquals(ids, getIDs(reloaded));
+        assertEquals(5, reloaded.size());
+
+        TaskList taskList = new TaskList(reloaded, Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE));
+        taskList.addToList(new ToDo("call home"));
+        assertEquals(11, taskList.getTaskAt(6).getID());
+    }
+
+    /**
+     * Test that tasks saved to the file are loaded back with the same IDs
+     */
+    @Test
+    void load_savedTasks_sameIDs() throws IOException, DukeException {
+        TaskList taskList = createTaskList("read book", "return book", "buy milk");
+        taskList.removeAt(2);
+
+        Storage storage = Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE);
+        ArrayList<Task> loaded = storage.load();
+        assertEquals(2, loaded.size());
+        assertEquals(1, loaded.get(0).getID());
+        assertEquals(3, loaded.get(1).getID());
+    }
+
+    /**
+     * Test that a description holding a field separator next to a slash is saved and loaded back
+     * with the same fields as split gave, keeping the tasks after it intact
+     */
+    @Test
+    void load_separatorsInDescription_loadedAsSplitGives() throws IOException, DukeException {
+        TaskList taskList = createTaskList("read a / / b", "buy milk");
+        taskList.addToList(new Deadline("pay a / / b", "Friday"));
+
+        for (int i = 0; i < 2; i++) {
+            ArrayList<Task> loaded = Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE).load();
+            assertEquals(3, loaded.size());
+            assertEquals("1 / ToDo / 0 / read a / / b".split(" / ")[3], loaded.get(0).getDescription());
+            assertEquals("buy milk", loaded.get(1).getDescription());
+            assertEquals(3, loaded.get(2).getID());
+            new TaskList(loaded, Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE)).setDoneInList(2);
+        }
+    }
+
+    /**
+     * Test that switching to the binary format converts the text file and loads the same tasks,
+     * keeping the text file as a backup
+     */
+    @Test
+    void load_textFileInBinaryFormat_sameTasks() throws IOException, DukeException {
+        TaskList taskList = createTaskList("read book", "buy milk");
+        taskList.addToList(new Deadline("return book", "2nd of December 2019, 6:00 PM"));
+        taskList.setDoneInList(1);
+
+        Storage storage = Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE, StorageFormat.BINARY);
+        ArrayList<Task> loaded = storage.load();
+        assertEquals(3, loaded.size());
+        assertTrue(loaded.get(0).getDoneStatus());
+        assertEquals("buy milk", loaded.get(1).getDescription());
+        assertEquals("2nd of December 2019, 6:00 PM", ((Deadline) loaded.get(2)).getDate());
+        assertEquals(3, loaded.get(2).getID());
+        assertTrue(new File(tempDir, "data.txt.bak").exists());
+        assertTrue(!new File(tempDir, "data.txt").exists());
+    }
+
+    /**
+     * Test that marking a task as done in in-place mode changes the data file where it is,
+     * in both formats, and that the change is loaded back after a restart
+     */
+    @Test
+    void setDoneInList_inPlaceMode_savedWithoutRewrite() throws IOException, DukeException {
+        for (StorageFormat format : StorageFormat.values()) {
+            File directory = new File(tempDir, format.name());
+            Storage storage = Storage.createStorageIfRequired(directory, StorageMode.IN_PLACE, format);
+            TaskList taskList = new TaskList(storage.load(), storage);
+            for (int i = 0; i < 50; i++) {
+                taskList.addToList(new ToDo("task " + i));
+            }
+            taskList.removeAt(3);
+            Path dataFile = directory.listFiles((dir, name) -> name.startsWith("data.")
+                    && !name.endsWith(".index"))[0].toPath();
+            Object fileKey = Files.readAttributes(dataFile, BasicFileAttributes.class).fileKey();
+            taskList.setDoneInList(10);
+
+            Storage restarted = Storage.createStorageIfRequired(directory, StorageMode.IN_PLACE, format);
+            TaskList reloaded = new TaskList(restarted.load(), restarted);
+            reloaded.setDoneInList(1);
+            assertEquals(fileKey, Files.readAttributes(dataFile, BasicFileAttributes.class).fileKey());
+
+            ArrayList<Task> loaded = Storage.createStorageIfRequired(directory, StorageMode.REWRITE, format).load();
+            assertEquals(49, loaded.size());
+            assertTrue(loaded.get(0).getDoneStatus());
+            assertTrue(loaded.get(9).getDoneStatus());
+            assertEquals(11, loaded.get(9).getID());
+            assertFalse(loaded.get(10).getDoneStatus());
+        }
+    }
+
+    /**
+     * Test that changes in write-behind mode reach the file once they are flushed
+     */
+    @Test
+    void flush_writeBehindChanges_savedToFile() throws IOException, DukeException {
+        TaskList taskList = new TaskList(Storage.createStorageIfRequired(tempDir, StorageMode.WRITE_BEHIND));
+        for (int i = 0; i < 50; i++) {
+            taskList.addToList(new ToDo("task " + i));
+        }
+        taskList.setDoneInList(1);
+        taskList.removeAt(2);
+        taskList.flush();
+
+        ArrayList<Task> loaded = Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE).load();
+        assertEquals(49, loaded.size());
+        assertTrue(loaded.get(0).getDoneStatus());
+        assertEquals("task 2", loaded.get(1).getDescription());
+    }
+
+    /**
+     * Test that killing the application in the middle of a save leaves the last complete save
+     * in the file, rather than a file cut short. The writer is killed at a few points into a save
+     */
+    @Test
+    void overwriteStorage_writerKilledMidSave_lastCompleteSaveLoaded() throws Exception {
+        Storage storage = Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE);
+        storage.overwriteStorage(SaveLoop.createTasks(0));
+
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        for (int attempt = 0; attempt < 3; attempt++) {
+            Process writer = new ProcessBuilder(java, "-Dduke.storage.sync=never",
+                    "-cp", System.getProperty("java.class.path"), SaveLoop.class.getName(), tempDir.getPath())
+                    .redirectErrorStream(true)
+                    .start();
+            try {
+                BufferedReader output = new BufferedReader(new InputStreamReader(writer.getInputStream()));
+                assertEquals("saving 1", output.readLine());
+                assertEquals("saving 2", output.readLine());
+                Thread.sleep(attempt * 10);
+            } finally {
+                writer.destroyForcibly();
+                writer.waitFor();
+            }
+
+            ArrayList<Task> loaded = storage.load();
+            assertEquals(SaveLoop.NUM_TASKS, loaded.size());
+            String round = loaded.get(0).getDescription().split(" ")[1];
+            for (Task task : loaded) {
+                assertTrue(task.getDescription().startsWith("round " + round + " "));
+            }
+        }
+    }
+
+    /**
+     * Saves a list of tasks to the directory given as the first argument over and over, switching
+     * between the tasks of two rounds and printing a line as each save starts, until it is killed
+     */
+    static class SaveLoop {
+
+        static final int NUM_TASKS = 100000;
+
+        public static void main(String[] args) throws IOException {
+            Storage storage = Storage.createStorageIfRequired(new File(args[0]), StorageMode.REWRITE);
+            List<ArrayList<Task>> rounds = List.of(createTasks(1), createTasks(2));
+            for (int i = 1; ; i++) {
+                System.out.println("saving " + i);
+                storage.overwriteStorage(rounds.get(i % 2));
+            }
+        }
+
+        //helper method to create the tasks saved in a round, each telling which round it belongs to
+        static ArrayList<Task> createTasks(int round) {
+            ArrayList<Task> tasks = new ArrayList<>(NUM_TASKS);
+            for (int i = 1; i <= NUM_TASKS; i++) {
+                Task task = new ToDo("round " + round + " task " + i);
+                task.setID(i);
+                tasks.add(task);
+            }
+            return tasks;
+        }
+    }
+
+    //helper method to list the IDs of the tasks, in order
+    private static List<Integer> getIDs(List<Task> tasks) {
+        List<Integer> ids = new ArrayList<>();
+        for (Task task : tasks) {
+            ids.add(task.getID());
+        }
+        return ids;
+    }
+
+    //helper method to create a task list holding todo tasks with the given descriptions
+    private TaskList createTaskList(String... descriptions) throws IOException {
+        TaskList taskList = new TaskList(Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE));
+        for (String description : descriptions) {
+            taskList.addToList(new ToDo(description));
+        }
+        return taskList;
+    }
+
+}
@@ -0,0 +1,111 @@
+package duke.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import duke.tasks.Task;
+import duke.tasks.ToDo;
+
+/**
+ * Class to test the TaskList class being read by several threads while it is changed
+ */
+class TaskListConcurrencyTest {
+
+    @TempDir
+    File tempDir;
+
+    /**
+     * Test that threads reading the list while another thread changes it always see whole tasks,
+     * found by the words and IDs they were added with
+     */
+    @Test
+    void findTasks_readersDuringChanges_consistentResults() throws Exception {
+        TaskList taskList = new TaskList(Storage.createStorageIfRequired(tempDir, StorageMode.WRITE_BEHIND));
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            readers.add(new Thread(() -> {
+                try {
+                    while (isWriting.get()) {
+                        for (Task task : taskList.findTasksWithWords(List.of("even"))) {
+                            assertTrue(task.getDescription().contains(" even"));
+                            assertTrue(task == taskList.getTaskByID(task.getID()) || taskList.getPosition(task) == 0);
+                        }
+                        for (Task task : taskList.findTasks("odd")) {
+                            assertTrue(task.getDescription().endsWith("odd"));
+                        }
+                        int numTasks = taskList.getNumTasks();
+                        assertTrue(numTasks >= 0 && taskList.getList().size() >= 0);
+                    }
+                } catch (Throwable error) {
+                    failure.compareAndSet(null, error);
+                }
+            }));
+        }
+        readers.forEach(Thread::start);
+        for (int i = 0; i < 2000; i++) {
+            taskList.addToList(new ToDo("task " + i + (i % 2 == 0 ? " even" : " odd")));
+            if (i % 10 == 9) {
+                taskList.removeAt(1 + i / 20);
+                taskList.setDoneInList(taskList.getNumTasks());
+            }
+        }
+        isWriting.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        taskList.flush();
+
+        assertEquals(null, failure.get());
+        assertEquals(1800, taskList.getNumTasks());
+        assertEquals(900, taskList.findTasksWithWords(List.of("even")).size());
+        assertEquals(1800, Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE).load().size());
+    }
+
+    /**
+     * Test that pages of the list printed while another thread removes tasks are whole pages,
+     * numbered from where they start, with the number of tasks the list had when they were copied
+     */
+    @Test
+    void printTaskPage_tasksRemovedMeanwhile_wholePagesPrinted() throws Exception {
+        TaskList taskList = new TaskList(Storage.createStorageIfRequired(tempDir, StorageMode.WRITE_BEHIND));
+        for (int i = 0; i < 3000; i++) {
+            taskList.addToList(new ToDo("task " + i));
+        }
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                Ui ui = new Ui();
+                while (isWriting.get()) {
+                    String[] lines = ui.printTaskPage(taskList, 1000, 500).split("\n");
+                    if (lines.length > 2) {
+                        assertTrue(lines[1].startsWith("1000."));
+                        assertTrue(lines[lines.length - 1].startsWith("Showing tasks 1000-"));
+                    }
+                }
+            } catch (Throwable error) {
+                failure.compareAndSet(null, error);
+            }
+        });
+        reader.start();
+        while (taskList.getNumTasks() > 0) {
+            taskList.removeAt(taskList.getNumTasks() > 1200 ? 1 : taskList.getNumTasks());
+        }
+        isWriting.set(false);
+        reader.join();
+        taskList.flush();
+
+        assertEquals(null, failure.get());
+    }
+}
@@ -0,0 +1,86 @@
+package duke.core;
+
+import duke.errors.DukeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import duke.tasks.Deadline;
+import duke.tasks.ToDo;
+
+/**
+ * Class to test saving the task list as an image and loading it back
+ */
+class TaskListImageTest {
+
+    @TempDir
+    File tempDir;
+
+    /**
+     * Test that a task list saved as an image is loaded back from the image, with the journal records
+     * written after the image replayed on top of it and the tasks they changed indexed again
+     */
+    @Test
+    void load_imageWithNewerJournalRecords_changesReplayed() throws IOException, DukeException {
+        Storage storage = Storage.createStorageIfRequired(tempDir, StorageMode.JOURNAL);
+        TaskList taskList = TaskList.load(storage);
+        LocalDateTime due = LocalDateTime.of(2019, 12, 2, 18, 0);
+        taskList.addToList(new ToDo("read book"));
+        taskList.addToList(new Deadline("return book", "2nd of December 2019, 6:00 PM", due));
+        taskList.addToList(new ToDo("buy milk"));
+        taskList.saveImage();
+        taskList.setDoneInList(2);
+        taskList.removeAt(1);
+        taskList.addToList(new ToDo("borrow book"));
+
+        Storage restarted = Storage.createStorageIfRequired(tempDir, StorageMode.JOURNAL);
+        TaskListImage image = restarted.loadImage();
+        assertNotNull(image);
+        TaskList loaded = new TaskList(image, restarted);
+        assertEquals(3, loaded.getNumTasks());
+        assertEquals(4, loaded.getTaskAt(3).getID());
+        assertEquals(2, loaded.findTasks("book").size());
+        assertEquals(1, loaded.findTasksWithWords(List.of("borrow", "book")).size());
+        assertEquals(0, loaded.findTasks("read").size());
+        assertTrue(loaded.findUpcoming(due, 5).isEmpty());
+        assertEquals(2, loaded.getPosition(loaded.getTaskAt(2)));
+
+        loaded.addToList(new ToDo("read again"));
+        assertEquals(5, loaded.getTaskAt(4).getID());
+    }
+
+    /**
+     * Test that an image is no longer loaded once the data file has been rewritten after it
+     */
+    @Test
+    void load_imageOlderThanDataFile_loadedFromDataFile() throws IOException, DukeException {
+        TaskList taskList = createTaskList("read book", "buy milk");
+        taskList.saveImage();
+        taskList.removeAt(1);
+
+        Storage restarted = Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE);
+        assertNull(restarted.loadImage());
+        TaskList loaded = TaskList.load(restarted);
+        assertEquals(1, loaded.getNumTasks());
+        assertEquals("buy milk", loaded.getTaskAt(1).getDescription());
+    }
+
+    //helper method to create a task list holding todo tasks with the given descriptions
+    private TaskList createTaskList(String... descriptions) throws IOException {
+        TaskList taskList = new TaskList(Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE));
+        for (String description : descriptions) {
+            taskList.addToList(new ToDo(description));
+        }
+        return taskList;
+    }
+
+}
@@ -2,23 +2,119 @@ package duke.core;
 
 import duke.errors.DukeException;
 import org.junit.jupiter.api.Test;
-
-import static org.junit.jupiter.api.Assertions.*;
-
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.fail;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
+
 import duke.tasks.Task;
+import duke.tasks.ToDo;
+import duke.tasks.Deadline;
+import duke.tasks.Event;
+
+/**
+ * Class to test certain functionality of the TaskList class
+ */
+class TaskListTest {
 
-import duke.commands.Command;
+    @TempDir
+    File tempDir;
 
+    /**
+     * Test that the tasks keep their IDs and can still be looked up
+     * after tasks in front of them have been removed
+     */
+    @Test
+    void removeAt_tasksInFront_positionsUpdated() throws IOException {
+        TaskList taskList = createTaskList("read book", "return book", "buy milk", "walk dog");
+        Task milk = taskList.getTaskAt(3);
 
+        taskList.removeAt(1);
+        taskList.removeAt(1);
 
+        assertEquals(3, milk.getID());
+        assertEquals(1, taskList.getPosition(milk));
+        assertEquals(milk, taskList.getTaskByID(3));
+        assertEquals(null, taskList.getTaskByID(1));
+    }
 
-class TaskListTest {
+    /**
+     * Test that finding several words only returns tasks containing all of them as whole words,
+     * and that removed tasks are no longer found
+     */
+    @Test
+    void findTasksWithWords_severalWords_onlyTasksWithAllWords() throws IOException {
+        TaskList taskList = createTaskList("read book", "return book to library", "read bookmarks", "read the book");
+
+        List<Task> results = taskList.findTasksWithWords(List.of("read", "book"));
+        assertEquals(2, results.size());
+        assertEquals("read book", results.get(0).getDescription());
+        assertEquals("read the book", results.get(1).getDescription());
+
+        taskList.removeAt(1);
+        assertEquals(1, taskList.findTasksWithWords(List.of("read", "book")).size());
+        assertTrue(taskList.findTasksWithWords(List.of("read", "magazine")).isEmpty());
+    }
+
+    /**
+     * Test that finding a keyword still matches parts of words, both for keywords long enough
+     * to use the trigram index and for shorter keywords
+     */
+    @Test
+    void findTasks_partialWords_matchesSubstrings() throws IOException {
+        TaskList taskList = createTaskList("do homework", "go home", "read book", "homeless shelter visit");
+
+        assertEquals(3, taskList.findTasks("home").size());
+        assertEquals(1, taskList.findTasks("omew").size());
+        assertEquals(1, taskList.findTasks("less shel").size());
+        assertEquals(2, taskList.findTasks("o h").size());
+        assertEquals(4, taskList.findTasks("o").size());
+        assertTrue(taskList.findTasks("hoMe").isEmpty());
+
+        taskList.removeAt(1);
+        assertEquals(2, taskList.findTasks("home").size());
+    }
+
+    /**
+     * Test that tasks with a date are found by time, earliest first, without the tasks that are done,
+     * and keep their date and time when loaded back from the file
+     */
+    @Test
+    void findDueBetween_datedTasks_orderedByTime() throws IOException, DukeException {
+        TaskList taskList = createTaskList("read book");
+        LocalDateTime first = LocalDateTime.of(2019, 12, 2, 18, 0);
+        taskList.addToList(new Deadline("submit report", "3rd of DECEMBER 2019, 9am", first.plusHours(15)));
+        taskList.addToList(new Event("meetup", "2nd of DECEMBER 2019, 6pm", first));
+        taskList.addToList(new Deadline("pay bills", "Friday"));
+        taskList.addToList(new Event("concert", "9th of DECEMBER 2019, 8pm", first.plusDays(7)));
+
+        List<Task> results = taskList.findDueBetween(first, first.plusDays(1));
+        assertEquals(2, results.size());
+        assertEquals("meetup", results.get(0).getDescription());
+        assertEquals("submit report", results.get(1).getDescription());
+
+        taskList.setDoneInList(3);
+        assertEquals("submit report", taskList.findUpcoming(first, 1).get(0).getDescription());
+        assertEquals(2, taskList.findUpcoming(first, 5).size());
+
+        ArrayList<Task> loaded = Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE).load();
+        assertEquals(first.plusHours(15), loaded.get(1).getDateTime());
+        assertEquals(null, loaded.get(3).getDateTime());
+    }
+
+    //helper method to create a task list holding todo tasks with the given descriptions
+    private TaskList createTaskList(String... descriptions) throws IOException {
+        TaskList taskList = new TaskList(Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE));
+        for (String description : descriptions) {
+            taskList.addToList(new ToDo(description));
+        }
+        return taskList;
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package duke.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import duke.tasks.ToDo;
+
+/**
+ * Class to test certain functionality of the Ui class
+ */
+class UiTest {
+
+    @TempDir
+    File tempDir;
+
+    /**
+     * Test that listing shows a single page of tasks, and that the next page follows on from it
+     */
+    @Test
+    void printTaskPage_moreTasksThanPage_onlyPageShown() throws IOException {
+        TaskList taskList = createTaskList("a", "b", "c", "d", "e");
+        Ui ui = new Ui();
+
+        String page = ui.printTaskPage(taskList, 2, 2);
+        assertEquals("Here are the tasks in your list:\n2.[T][\u2718] b\n3.[T][\u2718] c\n"
+                + "Showing tasks 2-3 of 5. Type 'list next' for more.\n", page);
+        assertTrue(ui.printNextTaskPage(taskList, 50).startsWith("Here are the tasks in your list:\n4.[T]"));
+        assertEquals(6, ui.printNumberList(taskList).split("\n").length);
+    }
+
+    /**
+     * Test that paging through an empty list shows the same message as listing it,
+     * and that there is no next page
+     */
+    @Test
+    void printTaskPage_emptyList_emptyListMessage() throws IOException {
+        TaskList taskList = createTaskList();
+        Ui ui = new Ui();
+
+        assertEquals("Here are the tasks in your list:\n", ui.printNumberList(taskList));
+        assertEquals("Here are the tasks in your list:\n", ui.printTaskPage(taskList, 51, 50));
+        assertEquals("Here are the tasks in your list:\n", ui.printTaskPage(taskList, 1, 10));
+        assertTrue(ui.printNextTaskPage(taskList, 50).contains("There are no more tasks in your list."));
+
+        taskList.addToList(new ToDo("a"));
+        assertTrue(ui.printTaskPage(taskList, 51, 50).contains("There are only 1 tasks in your list."));
+    }
+
+    //helper method to create a task list holding todo tasks with the given descriptions
+    private TaskList createTaskList(String... descriptions) throws IOException {
+        TaskList taskList = new TaskList(Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE));
+        for (String description : descriptions) {
+            taskList.addToList(new ToDo(description));
+        }
+        return taskList;
+    }
+
+}
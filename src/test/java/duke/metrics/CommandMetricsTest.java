@@ -0,0 +1,57 @@
+package duke.metrics;
+
+import duke.errors.DukeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import duke.core.Parser;
+import duke.core.Storage;
+import duke.core.StorageMode;
+import duke.core.TaskList;
+import duke.core.Ui;
+
+import duke.tasks.ToDo;
+
+/**
+ * Class to test certain functionality of the CommandMetrics class
+ */
+class CommandMetricsTest {
+
+    @TempDir
+    File tempDir;
+
+    /**
+     * Test that commands run through the metrics are reported by the stats command,
+     * along with the time taken to save their changes
+     */
+    @Test
+    void execute_commandsThroughMetrics_reportedByStats() throws IOException, DukeException {
+        TaskList taskList = createTaskList("read book");
+        Ui ui = new Ui();
+
+        CommandMetrics.execute(Parser.parseCommand("todo buy milk"), taskList, ui);
+        CommandMetrics.execute(Parser.parseCommand("find book"), taskList, ui);
+        String stats = CommandMetrics.execute(Parser.parseCommand("stats"), taskList, ui);
+
+        assertTrue(stats.matches("(?s).*add_todo +parse +\\d+.*"));
+        assertTrue(stats.matches("(?s).*add_todo +save +\\d+.*"));
+        assertTrue(stats.matches("(?s).*find_task +render +\\d+.*"));
+        assertEquals(2, taskList.getNumTasks());
+    }
+
+    //helper method to create a task list holding todo tasks with the given descriptions
+    private TaskList createTaskList(String... descriptions) throws IOException {
+        TaskList taskList = new TaskList(Storage.createStorageIfRequired(tempDir, StorageMode.REWRITE));
+        for (String description : descriptions) {
+            taskList.addToList(new ToDo(description));
+        }
+        return taskList;
+    }
+
+}
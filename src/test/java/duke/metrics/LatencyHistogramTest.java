@@ -0,0 +1,103 @@
+package duke.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+
+/**
+ * Class to test certain functionality of the LatencyHistogram class
+ */
+class LatencyHistogramTest {
+
+    /**
+     * Test that durations at the edges of the buckets fall into the expected buckets: one bucket each
+     * up to 7, eight buckets per power of two from 8, and the last bucket for anything past 2^41
+     */
+    @Test
+    void bucketOf_boundaryValues_expectedBuckets() {
+        assertEquals(0, LatencyHistogram.bucketOf(0));
+        assertEquals(0, LatencyHistogram.bucketOf(-5));
+        assertEquals(7, LatencyHistogram.bucketOf(7));
+        assertEquals(8, LatencyHistogram.bucketOf(8));
+        assertEquals(15, LatencyHistogram.bucketOf(15));
+        assertEquals(16, LatencyHistogram.bucketOf(16));
+        assertEquals(16, LatencyHistogram.bucketOf(17));
+        assertEquals(17, LatencyHistogram.bucketOf(18));
+        assertEquals(8 + 37 * 8, LatencyHistogram.bucketOf(1L << 40));
+        assertEquals(LatencyHistogram.NUM_BUCKETS - 1, LatencyHistogram.bucketOf((1L << 41) - 1));
+        assertEquals(LatencyHistogram.NUM_BUCKETS - 1, LatencyHistogram.bucketOf(1L << 41));
+        assertEquals(LatencyHistogram.NUM_BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    /**
+     * Test that the upper bound of every bucket is the last duration counted in it, so that the bucket
+     * after it starts one nanosecond later, and that no bucket is wider than an eighth of its durations
+     */
+    @Test
+    void upperBoundOf_everyBucket_lastDurationInBucket() {
+        assertEquals(0, LatencyHistogram.upperBoundOf(0));
+        assertEquals(7, LatencyHistogram.upperBoundOf(7));
+        assertEquals(8, LatencyHistogram.upperBoundOf(8));
+        assertEquals(17, LatencyHistogram.upperBoundOf(16));
+        assertEquals((1L << 41) - 1, LatencyHistogram.upperBoundOf(LatencyHistogram.NUM_BUCKETS - 1));
+        for (int bucket = 0; bucket < LatencyHistogram.NUM_BUCKETS - 1; bucket++) {
+            long upperBound = LatencyHistogram.upperBoundOf(bucket);
+            long lowerBound = bucket == 0 ? 0 : LatencyHistogram.upperBoundOf(bucket - 1) + 1;
+            assertEquals(bucket, LatencyHistogram.bucketOf(upperBound));
+            assertEquals(bucket + 1, LatencyHistogram.bucketOf(upperBound + 1));
+            assertTrue(upperBound - lowerBound <= lowerBound / 8);
+        }
+    }
+
+    /**
+     * Test that the percentiles of durations spread evenly from 1 to 1000 nanoseconds are within
+     * an eighth of the real ones, and that the extremes are the shortest and longest durations
+     */
+    @Test
+    void getPercentileNanos_evenDurations_withinAnEighth() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int nanos = 1; nanos <= 1000; nanos++) {
+            histogram.record(nanos);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.takeSnapshot();
+
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500, snapshot.getMeanNanos());
+        assertEquals(1000, snapshot.getMaxNanos());
+        assertEquals(1, snapshot.getPercentileNanos(0));
+        assertEquals(1000, snapshot.getPercentileNanos(100));
+        for (int percentile : new int[] {10, 25, 50, 90, 99}) {
+            long real = percentile * 10;
+            long read = snapshot.getPercentileNanos(percentile);
+            assertTrue(read >= real && read <= real + real / 8);
+        }
+        assertEquals(511, snapshot.getPercentileNanos(50));
+    }
+
+    /**
+     * Test that a single long duration among many short ones only shows in the top percentile,
+     * and that durations past the last bucket are reported as the longest one recorded
+     */
+    @Test
+    void getPercentileNanos_outlier_onlyInTopPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(1000000);
+        LatencyHistogram.Snapshot snapshot = histogram.takeSnapshot();
+        assertEquals(103, snapshot.getPercentileNanos(50));
+        assertEquals(103, snapshot.getPercentileNanos(99));
+        assertEquals(1000000, snapshot.getPercentileNanos(99.5));
+
+        LatencyHistogram overflowing = new LatencyHistogram();
+        overflowing.record(0);
+        overflowing.record(Long.MAX_VALUE);
+        assertEquals(0, overflowing.takeSnapshot().getPercentileNanos(50));
+        assertEquals(Long.MAX_VALUE, overflowing.takeSnapshot().getPercentileNanos(100));
+
+        assertEquals(0, new LatencyHistogram().takeSnapshot().getPercentileNanos(50));
+    }
+}